@@ -0,0 +1,129 @@
+package org.eventplanner.auth;
+
+import static org.eventplanner.testdata.SignedInUserFactory.createSignedInUser;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.application.services.AuthenticationService;
+import org.eventplanner.events.domain.values.auth.AccessKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compares serving a burst of polling clients on the bounded platform thread pool of tomcat with serving them on
+ * virtual threads. Every client sends one request authenticated by its access key. A request passes the access key
+ * authentication filter, reads from the database through a bounded pool of connections and then blocks on other I/O,
+ * like writing the response to a slow client. Database reads and other I/O are simulated by sleeping. This is a model,
+ * not a measurement of the real request pipeline: there is no servlet container, no SQLite and no network, and the
+ * sleep durations are assumptions. Its numbers must not be used to size the tomcat or database connection pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestConcurrencyBenchmark {
+
+    private static final int CLIENTS = 500;
+    private static final int TOMCAT_THREADS = 50;
+    private static final int DATABASE_CONNECTIONS = 10;
+    private static final Duration DATABASE_READ = Duration.ofMillis(1);
+    private static final Duration OTHER_IO = Duration.ofMillis(10);
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    public String threads;
+
+    private ExecutorService executor;
+    private ConvertToSignedInUserAuthenticationFilter filter;
+    private Semaphore connections;
+    private List<AccessKey> accessKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = "VIRTUAL".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_THREADS);
+        connections = new Semaphore(DATABASE_CONNECTIONS, true);
+        accessKeys = IntStream.range(0, CLIENTS).mapToObj(i -> new AccessKey("access-key-" + i)).toList();
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var signedInUser = createSignedInUser();
+        AuthenticationService authService = mock();
+        when(authService.authenticate(any(AccessKey.class))).thenAnswer(_ -> {
+            readFromDatabase();
+            return signedInUser;
+        });
+        filter = new ConvertToSignedInUserAuthenticationFilter(
+            authService,
+            new AuthenticationMutexHolder(256, meterRegistry),
+            new AccessKeyCache(CLIENTS, Duration.ofMinutes(2), Duration.ofSeconds(30), meterRegistry)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void pollingClients() throws Exception {
+        HttpServletRequest request = mock();
+        HttpServletResponse response = mock();
+        FilterChain filterChain = (_, _) -> handleRequest();
+        var requests = accessKeys.stream()
+            .map(accessKey -> executor.submit(() -> {
+                SecurityContextHolder.setContext(new SecurityContextImpl(new AccessKeyAuthentication(accessKey)));
+                try {
+                    filter.doFilterInternal(request, response, filterChain);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            }))
+            .toList();
+        for (Future<?> it : requests) {
+            it.get();
+        }
+    }
+
+    private void handleRequest() {
+        try {
+            readFromDatabase();
+            Thread.sleep(OTHER_IO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void readFromDatabase() throws InterruptedException {
+        connections.acquire();
+        try {
+            Thread.sleep(DATABASE_READ);
+        } finally {
+            connections.release();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.eventplanner.events.adapter.jpa.events;
+
+import static org.eventplanner.testdata.EventFactory.createEvent;
+import static org.eventplanner.testdata.RegistrationFactory.createRegistration;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.domain.entities.events.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures loading the calendar of a season with 150 events and 40 registrations each, with and without the
+ * {@link EventCache}. The JPA repositories are stubbed, so this covers the mapping and joining of the loaded entities
+ * in the adapter, not the database queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventJpaRepositoryAdapterBenchmark {
+
+    private static final int YEAR = 2025;
+    private static final int EVENT_COUNT = 150;
+    private static final int REGISTRATIONS_PER_EVENT = 40;
+
+    private EventCache eventCache;
+    private EventJpaRepositoryAdapter testee;
+
+    @Setup
+    public void setup() {
+        var events = IntStream.range(0, EVENT_COUNT)
+            .mapToObj(_ -> createEvent())
+            .toList();
+        var eventEntities = events.stream()
+            .map(EventJpaEntity::fromDomain)
+            .toList();
+        var registrationEntities = events.stream()
+            .flatMap(event -> IntStream.range(0, REGISTRATIONS_PER_EVENT)
+                .mapToObj(_ -> RegistrationJpaEntity.fromDomain(createRegistration(), event.getKey())))
+            .toList();
+
+        EventJpaRepository eventJpaRepository = mock();
+        RegistrationJpaRepository registrationJpaRepository = mock();
+        when(eventJpaRepository.findAllByYear(YEAR)).thenReturn(eventEntities);
+        when(registrationJpaRepository.findAllByEventKeyIn(anyList())).thenReturn(registrationEntities);
+        eventCache = new EventCache();
+        testee = new EventJpaRepositoryAdapter(registrationJpaRepository, eventJpaRepository, eventCache);
+    }
+
+    @Benchmark
+    public List<Event> findAllByYear() {
+        eventCache.invalidate();
+        return testee.findAllByYear(YEAR);
+    }
+
+    @Benchmark
+    public List<Event> findAllByYearCached() {
+        return testee.findAllByYear(YEAR);
+    }
+}
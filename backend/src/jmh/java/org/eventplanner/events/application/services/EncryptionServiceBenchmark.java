@@ -0,0 +1,65 @@
+package org.eventplanner.events.application.services;
+
+import static org.eventplanner.beans.JsonMapperFactory.defaultJsonMapper;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.domain.entities.users.EncryptedUserDetails;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares decrypting a realistic user list with a new cipher per field against the pooled and bulk decryption of the
+ * {@link EncryptionService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EncryptionServiceBenchmark {
+
+    private static final int USER_COUNT = 500;
+
+    private EncryptionService unpooledEncryptionService;
+    private EncryptionService pooledEncryptionService;
+    private List<EncryptedUserDetails> users;
+
+    @Setup
+    public void setup() {
+        unpooledEncryptionService = new EncryptionService(defaultJsonMapper(), "benchmark", 0);
+        pooledEncryptionService = new EncryptionService(defaultJsonMapper(), "benchmark");
+        users = IntStream.range(0, USER_COUNT)
+            .mapToObj(i -> createUser().withNickName("User " + i))
+            .map(user -> user.encrypt(pooledEncryptionService::encrypt))
+            .toList();
+    }
+
+    @Benchmark
+    public List<UserDetails> decryptPerField() {
+        return users.stream()
+            .map(user -> user.decrypt(unpooledEncryptionService::decrypt))
+            .toList();
+    }
+
+    @Benchmark
+    public List<UserDetails> decryptPooled() {
+        return users.stream()
+            .map(user -> user.decrypt(pooledEncryptionService::decrypt))
+            .toList();
+    }
+
+    @Benchmark
+    public List<UserDetails> decryptPooledBulk() {
+        return users.stream()
+            .map(user -> user.decrypt(pooledEncryptionService.decryptFunc()))
+            .toList();
+    }
+}
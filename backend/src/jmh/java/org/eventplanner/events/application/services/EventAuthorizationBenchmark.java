@@ -0,0 +1,74 @@
+package org.eventplanner.events.application.services;
+
+import static org.eventplanner.testdata.EventFactory.createEvent;
+import static org.eventplanner.testdata.RegistrationFactory.createRegistration;
+import static org.eventplanner.testdata.SignedInUserFactory.createSignedInUser;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.application.ports.EventRepository;
+import org.eventplanner.events.domain.entities.events.Event;
+import org.eventplanner.events.domain.entities.users.SignedInUser;
+import org.eventplanner.events.domain.values.auth.Permission;
+import org.eventplanner.events.domain.values.auth.Role;
+import org.eventplanner.events.domain.values.events.EventState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the permission checks of reading a year of events, where every event is checked for visibility and has its
+ * confidential data cleared depending on the permissions of the signed-in user. The repository is mocked and returns
+ * the same events for every call, so the benchmark measures the filtering and authorization only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventAuthorizationBenchmark {
+
+    @Param({ "TEAM_MEMBER", "TEAM_PLANNER", "ADMIN" })
+    public Role role;
+
+    private SignedInUser signedInUser;
+    private EventService eventService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signedInUser = createSignedInUser(role);
+        var states = EventState.values();
+        var events = IntStream.range(0, 150)
+            .mapToObj(i -> createEvent()
+                .withState(states[i % states.length])
+                .withStart(Instant.now().plus(i * 2L, ChronoUnit.DAYS))
+                .withRegistrations(IntStream.range(0, 30).mapToObj(_ -> createRegistration()).toList()))
+            .toList();
+        EventRepository eventRepository = mock();
+        when(eventRepository.findAllByYear(2026)).thenReturn(events);
+        eventService = new EventService(eventRepository, "secret");
+    }
+
+    @Benchmark
+    public List<Event> getEvents() {
+        return eventService.getEvents(signedInUser, 2026);
+    }
+
+    @Benchmark
+    public void hasPermission(Blackhole blackhole) {
+        for (var permission : Permission.values()) {
+            blackhole.consume(signedInUser.hasPermission(permission));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.eventplanner.events.application.services;
+
+import static org.eventplanner.beans.JsonMapperFactory.defaultJsonMapper;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.domain.entities.users.EncryptedUserDetails;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the latency of decrypting and sorting the complete user list sequentially against the parallel decryption
+ * of the {@link UserDecryptionService}. Sample time mode reports the latency distribution with percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserDecryptionBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int userCount;
+
+    private EncryptionService encryptionService;
+    private UserDecryptionService userDecryptionService;
+    private List<EncryptedUserDetails> users;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        encryptionService = new EncryptionService(defaultJsonMapper(), "benchmark");
+        userDecryptionService = new UserDecryptionService(encryptionService, new SimpleMeterRegistry(), 0, 50);
+        users = IntStream.range(0, userCount)
+            .mapToObj(i -> createUser().withNickName("User " + i))
+            .map(user -> user.encrypt(encryptionService::encrypt))
+            .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        userDecryptionService.shutdown();
+    }
+
+    @Benchmark
+    public List<UserDetails> decryptSequential() {
+        return users.stream()
+            .map(user -> user.decrypt(encryptionService.decryptFunc()))
+            .sorted(Comparator.comparing(UserDetails::getFullName))
+            .toList();
+    }
+
+    @Benchmark
+    public List<UserDetails> decryptParallel() {
+        return userDecryptionService.decryptAll(users).stream()
+            .sorted(Comparator.comparing(UserDetails::getFullName))
+            .toList();
+    }
+}
@@ -0,0 +1,165 @@
+package org.eventplanner.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eventplanner.events.domain.entities.users.SignedInUser;
+import org.eventplanner.events.domain.values.auth.AccessKey;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the result of authenticating access keys for a short time, so that repeated requests with the same access key,
+ * like the burst after sending confirmation emails, do not hash and look up the key again. Unknown access keys are
+ * cached as rejected for an even shorter time, so that old links do not hit the database on every request. The cache
+ * holds at most the configured number of access keys and evicts the least recently used ones first.
+ */
+@Component
+public class AccessKeyCache {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<AccessKey, CachedAccessKey> accessKeys;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public AccessKeyCache(
+        @Value("${auth.access-key.cache.max-size}") final int maxSize,
+        @NonNull @Value("${auth.access-key.cache.ttl}") final Duration ttl,
+        @NonNull @Value("${auth.access-key.cache.negative-ttl}") final Duration negativeTtl,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.accessKeys = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = Counter.builder("auth.access-keys.cache.hits")
+            .description("Number of access key authentications served from the cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("auth.access-keys.cache.misses")
+            .description("Number of access key authentications that could not be served from the cache")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("auth.access-keys.cache.evictions")
+            .description("Number of access keys removed from the cache, because they expired or the cache was full")
+            .register(meterRegistry);
+        Gauge.builder("auth.access-keys.cache.size", this, AccessKeyCache::size)
+            .description("Number of access keys in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached authentication result of the given access key.
+     *
+     * @param accessKey the access key
+     * @return the cached result or null, if the access key is not cached or expired
+     */
+    public @Nullable CachedAccessKey get(@NonNull final AccessKey accessKey) {
+        var now = Instant.now();
+        lock.lock();
+        try {
+            var cached = accessKeys.get(accessKey);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                hits.increment();
+                return cached;
+            }
+            if (cached != null) {
+                accessKeys.remove(accessKey);
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the signed-in user of a successfully authenticated access key.
+     *
+     * @param accessKey    the access key
+     * @param signedInUser the user authenticated by the access key
+     * @return the cached result
+     */
+    public @NonNull CachedAccessKey putAuthenticated(
+        @NonNull final AccessKey accessKey,
+        @NonNull final SignedInUser signedInUser
+    ) {
+        return put(accessKey, new CachedAccessKey(signedInUser, Instant.now().plus(ttl)));
+    }
+
+    /**
+     * Caches an access key that could not be authenticated.
+     *
+     * @param accessKey the access key
+     * @return the cached result
+     */
+    public @NonNull CachedAccessKey putRejected(@NonNull final AccessKey accessKey) {
+        return put(accessKey, new CachedAccessKey(null, Instant.now().plus(negativeTtl)));
+    }
+
+    @Scheduled(cron = "0 * * * * *")
+    public void evictExpired() {
+        var now = Instant.now();
+        lock.lock();
+        try {
+            var iterator = accessKeys.values().iterator();
+            while (iterator.hasNext()) {
+                if (!iterator.next().expiresAt().isAfter(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @NonNull CachedAccessKey put(@NonNull final AccessKey accessKey, @NonNull final CachedAccessKey cached) {
+        lock.lock();
+        try {
+            accessKeys.put(accessKey, cached);
+            // the map is in access order, the first entry is the least recently used one
+            var iterator = accessKeys.values().iterator();
+            while (accessKeys.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return accessKeys.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The cached authentication result of an access key.
+     *
+     * @param signedInUser the user authenticated by the access key, or null if the access key was rejected
+     * @param expiresAt    the time the result expires
+     */
+    public record CachedAccessKey(@Nullable SignedInUser signedInUser, @NonNull Instant expiresAt) {
+    }
+}
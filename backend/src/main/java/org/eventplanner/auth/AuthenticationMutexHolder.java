@@ -1,12 +1,14 @@
 package org.eventplanner.auth;
 
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eventplanner.events.domain.entities.users.SignedInUser;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.oidc.StandardClaimNames;
@@ -14,36 +16,89 @@ import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
-@Slf4j
+/**
+ * Serializes the authentication of requests of the same principal, so that concurrent requests of a freshly signed-in
+ * user do not create the user or access keys twice. The locks are taken from a fixed number of stripes, so memory does
+ * not grow with the number of principals. Different principals might share a stripe, which only serializes them.
+ * Authentications without a known principal all share a single lock.
+ */
 @Component
 public class AuthenticationMutexHolder {
-    private final ConcurrentHashMap<String, Object> authenticationMutexes = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final ReentrantLock unknownPrincipalLock = new ReentrantLock();
+    private final Counter contended;
+    private final Timer waitTimer;
 
-    @Scheduled(cron = "0 0 0 * * *")
-    private void clearMutexes() {
-        log.info("Clearing authentication mutexes");
-        authenticationMutexes.clear();
+    public AuthenticationMutexHolder(
+        @Value("${auth.mutex.stripes}") final int stripes,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        // a power of two allows to select a stripe by masking the hash
+        var size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.contended = Counter.builder("auth.mutex.contended")
+            .description("Number of authentications that had to wait for another authentication on the same lock")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.mutex.wait")
+            .description("Time contended authentications waited for their lock")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the lock of the principal of the given authentication without acquiring it.
+     *
+     * @param authentication the authentication
+     * @return the lock of the principal
+     */
+    public @NonNull Lock getMutex(@Nullable final Authentication authentication) {
+        var key = getPrincipalKey(authentication);
+        if (key == null) {
+            return unknownPrincipalLock;
+        }
+        var hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
     }
 
-    public @NonNull Object getMutex(@Nullable Authentication authentication) {
-        String key = null;
+    /**
+     * Acquires the lock of the principal of the given authentication. The caller must unlock the returned lock.
+     *
+     * @param authentication the authentication
+     * @return the acquired lock
+     */
+    public @NonNull Lock lock(@Nullable final Authentication authentication) {
+        var lock = getMutex(authentication);
+        if (!lock.tryLock()) {
+            contended.increment();
+            var start = System.nanoTime();
+            lock.lock();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return lock;
+    }
+
+    private static @Nullable String getPrincipalKey(@Nullable final Authentication authentication) {
         if (authentication instanceof SignedInUser signedInUser) {
-            key = signedInUser.authKey().value();
-        } else if (authentication instanceof OAuth2AuthenticationToken oAuth2AuthenticationToken) {
+            return signedInUser.authKey().value();
+        }
+        if (authentication instanceof OAuth2AuthenticationToken oAuth2AuthenticationToken) {
             var principal = oAuth2AuthenticationToken.getPrincipal();
             if (principal instanceof OidcUser oidcUser) {
-                key = oidcUser.getSubject();
-            } else if (principal instanceof OAuth2User oAuth2User) {
-                key = oAuth2User.getAttribute(StandardClaimNames.SUB);
+                return oidcUser.getSubject();
+            }
+            if (principal instanceof OAuth2User oAuth2User) {
+                return oAuth2User.getAttribute(StandardClaimNames.SUB);
             }
-        } else if (authentication instanceof AccessKeyAuthentication accessKeyAuthentication) {
-            key = accessKeyAuthentication.getCredentials().value();
         }
-        if (key == null) {
-            key = UUID.randomUUID().toString();
+        if (authentication instanceof AccessKeyAuthentication accessKeyAuthentication) {
+            return accessKeyAuthentication.getCredentials().value();
         }
-        return authenticationMutexes.computeIfAbsent(key, _ -> new Object());
+        return null;
     }
 }
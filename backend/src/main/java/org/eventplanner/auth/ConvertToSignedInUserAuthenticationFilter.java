@@ -1,16 +1,13 @@
 package org.eventplanner.auth;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.eventplanner.events.application.services.AuthenticationService;
 import org.eventplanner.events.domain.entities.users.SignedInUser;
+import org.eventplanner.events.domain.exceptions.UnauthorizedException;
 import org.eventplanner.events.domain.values.auth.AccessKey;
 import org.jspecify.annotations.NonNull;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -28,17 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class ConvertToSignedInUserAuthenticationFilter extends OncePerRequestFilter {
-    private static final Duration ACCESS_KEY_CACHE_TTL = Duration.ofMinutes(2);
-
     private final AuthenticationService authService;
     private final AuthenticationMutexHolder authenticationMutexHolder;
-    private final Map<AccessKey, CachedSignedInUser> authorizedAccessKeys = new ConcurrentHashMap<>();
-
-    @Scheduled(cron = "0 * * * * *")
-    public void clearExpiredAuthorizedAccessKeys() {
-        var threshold = Instant.now().minus(ACCESS_KEY_CACHE_TTL);
-        authorizedAccessKeys.entrySet().removeIf(entry -> entry.getValue().cachedAt().isBefore(threshold));
-    }
+    private final AccessKeyCache accessKeyCache;
 
     @Override
     protected void doFilterInternal(
@@ -49,7 +38,8 @@ public class ConvertToSignedInUserAuthenticationFilter extends OncePerRequestFil
         try {
             var authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication instanceof OAuth2AuthenticationToken || authentication instanceof AccessKeyAuthentication) {
-                synchronized (authenticationMutexHolder.getMutex(authentication)) {
+                var lock = authenticationMutexHolder.lock(authentication);
+                try {
                     // reload authentication, as it might already been converted by another thread
                     authentication = SecurityContextHolder.getContext().getAuthentication();
                     if (authentication instanceof OAuth2AuthenticationToken oAuth2AuthenticationToken) {
@@ -65,15 +55,13 @@ public class ConvertToSignedInUserAuthenticationFilter extends OncePerRequestFil
 
                     } else if (authentication instanceof AccessKeyAuthentication accessKeyAuthentication) {
                         log.debug("Mapping access key authentication to signed-in user");
-                        var accessKey = accessKeyAuthentication.getCredentials();
-                        var cachedSignedInUser = authorizedAccessKeys.get(accessKey);
-                        if (cachedSignedInUser == null) {
-                            var signedInUser = authService.authenticate(accessKey);
-                            cachedSignedInUser = new CachedSignedInUser(signedInUser, Instant.now());
-                            authorizedAccessKeys.put(accessKey, cachedSignedInUser);
+                        var signedInUser = authenticate(accessKeyAuthentication.getCredentials());
+                        if (signedInUser != null) {
+                            SecurityContextHolder.getContext().setAuthentication(signedInUser);
                         }
-                        SecurityContextHolder.getContext().setAuthentication(cachedSignedInUser.signedInUser());
                     }
+                } finally {
+                    lock.unlock();
                 }
             }
         } catch (Exception e) {
@@ -82,9 +70,19 @@ public class ConvertToSignedInUserAuthenticationFilter extends OncePerRequestFil
         filterChain.doFilter(request, response);
     }
 
-    private record CachedSignedInUser(
-        @NonNull SignedInUser signedInUser,
-        @NonNull Instant cachedAt
-    ) {
+    private @Nullable SignedInUser authenticate(@NonNull final AccessKey accessKey) {
+        var cached = accessKeyCache.get(accessKey);
+        if (cached == null) {
+            try {
+                cached = accessKeyCache.putAuthenticated(accessKey, authService.authenticate(accessKey));
+            } catch (UnauthorizedException e) {
+                accessKeyCache.putRejected(accessKey);
+                throw e;
+            }
+        }
+        if (cached.signedInUser() == null) {
+            log.debug("Rejected access key, that was rejected before");
+        }
+        return cached.signedInUser();
     }
 }
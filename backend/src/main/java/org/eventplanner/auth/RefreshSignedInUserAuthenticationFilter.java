@@ -20,13 +20,18 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Keeps the principal of signed-in users up to date with their stored user details. Principals older than
+ * {@link #MAX_AGE} are refreshed from the {@link SignedInUserCache}, which serves outdated users right away and loads
+ * them again in the background. Principals of changed users are refreshed on their next request.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RefreshSignedInUserAuthenticationFilter extends OncePerRequestFilter {
     private static final Duration MAX_AGE = Duration.ofMinutes(1);
     private final UserService userService;
-    private final AuthenticationMutexHolder authenticationMutexHolder;
+    private final SignedInUserCache signedInUserCache;
 
     @Override
     protected void doFilterInternal(
@@ -36,18 +41,9 @@ public class RefreshSignedInUserAuthenticationFilter extends OncePerRequestFilte
     ) throws ServletException, IOException {
         try {
             var authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication instanceof SignedInUser) {
-                synchronized (authenticationMutexHolder.getMutex(authentication)) {
-                    // reload authentication, as it might already been converted by another thread
-                    authentication = SecurityContextHolder.getContext().getAuthentication();
-                    if (authentication instanceof SignedInUser signedInUser) {
-                        MDC.put("user", signedInUser.key().value());
-                        if (signedInUser.loginAt().isBefore(Instant.now().minus(MAX_AGE))) {
-                            log.debug("Refreshing signed-in user, because session is older than {}", MAX_AGE);
-                            refreshSignedInUser(signedInUser);
-                        }
-                    }
-                }
+            if (authentication instanceof SignedInUser signedInUser) {
+                MDC.put("user", signedInUser.key().value());
+                refreshSignedInUser(signedInUser);
             }
         } catch (UnauthorizedException e) {
             throw e;
@@ -58,8 +54,18 @@ public class RefreshSignedInUserAuthenticationFilter extends OncePerRequestFilte
     }
 
     private void refreshSignedInUser(@NonNull SignedInUser signedInUser) {
-        var user = userService.getUserByKey(signedInUser.key());
-        if (user.isEmpty()) {
+        var maxLoginAt = Instant.now().minus(MAX_AGE);
+        var cached = signedInUserCache.peek(signedInUser.key());
+        if (!signedInUser.loginAt().isBefore(maxLoginAt) && (cached == null || !cached.invalidated())) {
+            return;
+        }
+        cached = signedInUserCache.get(signedInUser.key(), maxLoginAt, userService::getUserByKey);
+        if (!cached.loadedAt().isAfter(signedInUser.loginAt())) {
+            // the principal is as recent as the cached user, a background refresh might be loading a newer one
+            return;
+        }
+        var user = cached.user();
+        if (user == null) {
             log.error(
                 "Cannot refresh signed-in user, because user with key {} does no longer exist",
                 signedInUser.key()
@@ -67,7 +73,9 @@ public class RefreshSignedInUserAuthenticationFilter extends OncePerRequestFilte
             SecurityContextHolder.getContext().setAuthentication(null);
             throw new UnauthorizedException();
         }
-        SecurityContextHolder.getContext()
-            .setAuthentication(SignedInUser.fromUser(user.get(), signedInUser.authentication()));
+        log.debug("Refreshing signed-in user loaded at {}", cached.loadedAt());
+        SecurityContextHolder.getContext().setAuthentication(
+            SignedInUser.fromUser(user, signedInUser.authentication()).withLoginAt(cached.loadedAt())
+        );
     }
 }
@@ -0,0 +1,141 @@
+package org.eventplanner.auth;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.eventplanner.common.TransactionHooks;
+import org.eventplanner.events.application.events.UserChangedEvent;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the latest user details of all signed-in users, so that refreshing the principal of a session does not block
+ * requests. Outdated users are served right away while a single background refresh per user loads them again. Changed
+ * users are invalidated after the change was committed, the next request of the user then loads them right away.
+ */
+@Slf4j
+@Component
+public class SignedInUserCache {
+
+    private final Map<UserKey, CachedUser> users = new ConcurrentHashMap<>();
+    private final Set<UserKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("signed-in-user-refresh-", 0).factory()
+    );
+
+    /**
+     * Returns the cached user with the given key. The cached user is loaded right away if it is missing or
+     * invalidated, and refreshed in the background if it was loaded before the given time.
+     *
+     * @param key         the key of the user
+     * @param refreshedAt the time after which the cached user is up to date
+     * @param loader      loads the user by its key
+     * @return the cached user, which might be outdated
+     */
+    public @NonNull CachedUser get(
+        @NonNull final UserKey key,
+        @NonNull final Instant refreshedAt,
+        @NonNull final Function<UserKey, Optional<UserDetails>> loader
+    ) {
+        var cached = users.get(key);
+        if (cached == null || cached.invalidated()) {
+            return load(key, loader);
+        }
+        if (cached.loadedAt().isBefore(refreshedAt) && refreshing.add(key)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        load(key, loader);
+                    } catch (Exception e) {
+                        log.error("Failed to refresh signed-in user {}", key, e);
+                    } finally {
+                        refreshing.remove(key);
+                    }
+                });
+            } catch (Exception e) {
+                refreshing.remove(key);
+                log.error("Failed to schedule refresh of signed-in user {}", key, e);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the cached user with the given key without loading it.
+     *
+     * @param key the key of the user
+     * @return the cached user or null
+     */
+    public @Nullable CachedUser peek(@NonNull final UserKey key) {
+        return users.get(key);
+    }
+
+    /**
+     * Marks the user with the given key as changed, so that the next request of the user loads it again. Within a
+     * transaction the user is invalidated after the transaction was committed, so that the reload sees the change.
+     *
+     * @param key the key of the user
+     */
+    public void invalidate(@NonNull final UserKey key) {
+        TransactionHooks.afterCommit(() -> invalidateNow(key));
+    }
+
+    @EventListener
+    public void onUserChanged(@NonNull final UserChangedEvent event) {
+        invalidate(event.userKey());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void invalidateNow(@NonNull final UserKey key) {
+        // also mark users without a cached entry, their principals might have been created by a sign in
+        users.compute(key, (_, cached) -> cached != null
+            ? cached.invalidate()
+            : new CachedUser(null, Instant.now(), true));
+    }
+
+    private @NonNull CachedUser load(
+        @NonNull final UserKey key,
+        @NonNull final Function<UserKey, Optional<UserDetails>> loader
+    ) {
+        var loadedAt = Instant.now();
+        var loaded = new CachedUser(loader.apply(key).orElse(null), loadedAt, false);
+        // an invalidation while loading must not be overwritten by the possibly outdated user
+        return users.compute(key, (_, cached) -> {
+            if (cached != null && cached.invalidated() && cached.loadedAt().isAfter(loadedAt)) {
+                return cached;
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * A cached user.
+     *
+     * @param user        the user details or null, if the user does no longer exist
+     * @param loadedAt    the time the user was loaded or invalidated
+     * @param invalidated whether the user was changed since it was loaded
+     */
+    public record CachedUser(@Nullable UserDetails user, @NonNull Instant loadedAt, boolean invalidated) {
+        @NonNull
+        CachedUser invalidate() {
+            return new CachedUser(user, Instant.now(), true);
+        }
+    }
+}
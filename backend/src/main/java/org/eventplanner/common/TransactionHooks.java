@@ -0,0 +1,56 @@
+package org.eventplanner.common;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs actions when the current transaction ends, like updating caches or dispatching work that must only see
+ * committed changes. Without a transaction the actions run right away.
+ */
+public class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * Runs the given action after the current transaction was committed. The action is dropped if the transaction is
+     * rolled back.
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(@NonNull final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AfterCommit(action));
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the given action after the current transaction was committed or rolled back.
+     *
+     * @param action the action to run
+     */
+    public static void afterCompletion(@NonNull final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AfterCompletion(action));
+        } else {
+            action.run();
+        }
+    }
+
+    private record AfterCommit(@NonNull Runnable action) implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            action.run();
+        }
+    }
+
+    private record AfterCompletion(@NonNull Runnable action) implements TransactionSynchronization {
+        @Override
+        public void afterCompletion(int status) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.eventplanner.events.adapter.jpa;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.eventplanner.common.TransactionHooks;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a rarely changing catalog, like positions or qualifications, as an immutable snapshot in memory, so that
+ * reading the catalog does not require a database round trip. The snapshot is loaded on startup or on first access and
+ * replaced as a whole after a write was committed. Concurrent loads are serialized, so that a reload after a commit
+ * always publishes the latest state. The cached entries are never handed out directly, readers always get copies.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the entries
+ */
+@Slf4j
+public class CatalogCache<K, V> {
+
+    private final String name;
+    private final Supplier<List<V>> loader;
+    private final Function<V, K> keyFunction;
+    private final UnaryOperator<V> copyFunction;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile @Nullable Catalog<K, V> catalog;
+
+    /**
+     * @param name         the name of the catalog used for logging
+     * @param loader       reads all entries of the catalog from the database
+     * @param keyFunction  returns the key of an entry
+     * @param copyFunction creates a copy of an entry
+     */
+    public CatalogCache(
+        @NonNull final String name,
+        @NonNull final Supplier<List<V>> loader,
+        @NonNull final Function<V, K> keyFunction,
+        @NonNull final UnaryOperator<V> copyFunction
+    ) {
+        this.name = name;
+        this.loader = loader;
+        this.keyFunction = keyFunction;
+        this.copyFunction = copyFunction;
+    }
+
+    public @NonNull List<V> findAll() {
+        return getCatalog().entries().values().stream().map(copyFunction).toList();
+    }
+
+    public @NonNull Map<K, V> findAllAsMap() {
+        var entries = getCatalog().entries();
+        var copies = new LinkedHashMap<K, V>(entries.size());
+        entries.forEach((key, value) -> copies.put(key, copyFunction.apply(value)));
+        return copies;
+    }
+
+    public @NonNull Optional<V> findByKey(@NonNull final K key) {
+        return Optional.ofNullable(getCatalog().entries().get(key)).map(copyFunction);
+    }
+
+    /**
+     * Loads the catalog and replaces the current snapshot.
+     */
+    public void reload() {
+        loadLock.lock();
+        try {
+            load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Reloads the catalog after a write. Within a transaction the catalog is reloaded after the transaction was
+     * committed, so that the reload sees the write, and kept as is if the transaction was rolled back.
+     */
+    public void reloadAfterCommit() {
+        TransactionHooks.afterCommit(this::tryReload);
+    }
+
+    private void tryReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // the write was already committed, the next read loads the catalog again
+            log.error("Failed to reload {} catalog", name, e);
+            catalog = null;
+        }
+    }
+
+    private @NonNull Catalog<K, V> getCatalog() {
+        var current = catalog;
+        if (current != null) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            // another thread might have loaded the catalog while this one was waiting
+            current = catalog;
+            if (current != null) {
+                return current;
+            }
+            return load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private @NonNull Catalog<K, V> load() {
+        var entries = new LinkedHashMap<K, V>();
+        loader.get().forEach(entry -> entries.put(keyFunction.apply(entry), entry));
+        var loaded = new Catalog<>(Collections.unmodifiableMap(entries));
+        catalog = loaded;
+        log.debug("Loaded {} entries of {} catalog", entries.size(), name);
+        return loaded;
+    }
+
+    private record Catalog<K, V>(@NonNull Map<K, V> entries) {
+    }
+}
@@ -1,8 +1,28 @@
 package org.eventplanner.events.adapter.jpa.config;
 
+import org.jspecify.annotations.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ConfigurationJpaRepository extends JpaRepository<ConfigurationJpaEntity, String> {
+
+    /**
+     * Increments the numeric value of the given setting in a single statement, so that concurrent updates are not
+     * lost. A missing setting is created with the value 1.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO settings (key, value) VALUES (:key, '1')
+            ON CONFLICT (key) DO UPDATE SET value = CAST(COALESCE(value, '0') AS INTEGER) + 1
+            """,
+        nativeQuery = true
+    )
+    void increment(@NonNull @Param("key") String key);
 }
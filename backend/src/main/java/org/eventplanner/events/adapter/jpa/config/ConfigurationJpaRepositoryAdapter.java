@@ -20,6 +20,7 @@ import org.eventplanner.events.domain.values.config.NotificationConfig;
 import org.eventplanner.events.domain.values.config.NotificationConfig.NotificationConfigUpdateSpec;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +44,7 @@ public class ConfigurationJpaRepositoryAdapter implements ConfigurationSource, C
     private static final String UI_SUPPORT_EMAIL = "ui.supportEmail";
     private static final String UI_URL = "ui.url";
     private static final String TEAMS_WEBHOOK_URL = "notifications.teamsWebhookUrl";
+    private static final String VERSION = "settings.version";
 
     private final ConfigurationJpaRepository configurationJpaRepository;
 
@@ -114,6 +116,7 @@ public class ConfigurationJpaRepositoryAdapter implements ConfigurationSource, C
     }
 
     @Override
+    @Transactional
     public void updateConfig(
         @NonNull final ApplicationConfigUpdateSpec spec,
         @NonNull final EncryptFunc encryptFunc
@@ -123,6 +126,15 @@ public class ConfigurationJpaRepositoryAdapter implements ConfigurationSource, C
         entities.addAll(mapNotificationSettings(spec.notifications(), encryptFunc));
         entities.addAll(mapFrontendSettings(spec.frontend()));
         configurationJpaRepository.saveAll(entities);
+        configurationJpaRepository.increment(VERSION);
+    }
+
+    @Override
+    public long getVersion() {
+        return configurationJpaRepository.findById(VERSION)
+            .map(ConfigurationJpaEntity::getValue)
+            .map(Long::parseLong)
+            .orElse(0L);
     }
 
     private @NonNull List<ConfigurationJpaEntity> mapFrontendSettings(
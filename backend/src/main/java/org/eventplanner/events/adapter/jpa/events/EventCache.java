@@ -0,0 +1,73 @@
+package org.eventplanner.events.adapter.jpa.events;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eventplanner.common.TransactionHooks;
+import org.eventplanner.events.domain.entities.events.Event;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the deserialized events of a year, so that loading the calendar does not require reading and parsing all
+ * events again. Every write to events or registrations increments a version counter, which invalidates all cached
+ * years. While a writing transaction is running, loaded events are not cached, as they might include its uncommitted
+ * changes. The cached events are never handed out directly, readers always get copies they can modify.
+ */
+@Component
+public class EventCache {
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger pendingInvalidations = new AtomicInteger();
+    private final Map<Integer, CachedYear> years = new ConcurrentHashMap<>();
+
+    /**
+     * Returns copies of the cached events of the given year, or loads and caches them if the cache is outdated.
+     *
+     * @param year   the year of the events
+     * @param loader loads all events of the year
+     * @return copies of all events of the year
+     */
+    public @NonNull List<Event> getOrLoad(final int year, @NonNull final Supplier<List<Event>> loader) {
+        var currentVersion = version.get();
+        var cached = years.get(year);
+        if (cached == null || cached.version() != currentVersion) {
+            var events = loader.get();
+            if (pendingInvalidations.get() > 0) {
+                return events;
+            }
+            // a write might have happened while loading, in that case the version does not match on the next read
+            cached = new CachedYear(currentVersion, List.copyOf(events));
+            years.put(year, cached);
+        }
+        return cached.events().stream()
+            .map(Event::copy)
+            .toList();
+    }
+
+    /**
+     * Invalidates all cached years. Within a transaction, the cache is invalidated again after the transaction
+     * completed, as concurrent readers might have cached the state before the commit in the meantime. Until then, no
+     * loaded events are cached.
+     */
+    public void invalidate() {
+        pendingInvalidations.incrementAndGet();
+        invalidateNow();
+        TransactionHooks.afterCompletion(() -> {
+            invalidateNow();
+            pendingInvalidations.decrementAndGet();
+        });
+    }
+
+    private void invalidateNow() {
+        version.incrementAndGet();
+        years.clear();
+    }
+
+    private record CachedYear(long version, @NonNull List<Event> events) {
+    }
+}
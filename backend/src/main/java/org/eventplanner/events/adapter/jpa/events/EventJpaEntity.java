@@ -70,6 +70,18 @@ public class EventJpaEntity {
     @Column(name = "end", nullable = false)
     private String end;
 
+    /**
+     * The start as epoch millis, only used to query events by their start time.
+     */
+    @Column(name = "start_millis", nullable = false)
+    private Long startMillis;
+
+    /**
+     * The end as epoch millis, only used to query events by their end time.
+     */
+    @Column(name = "end_millis", nullable = false)
+    private Long endMillis;
+
     @Column(name = "locations")
     private String locationsRaw;
 
@@ -79,6 +91,12 @@ public class EventJpaEntity {
     @Column(name = "participation_confirmations_requests_sent")
     private Integer confirmationsRequestsSent;
 
+    /**
+     * Only incremented by {@link EventJpaRepository#incrementRevision(String)}, never written through this entity.
+     */
+    @Column(name = "revision", insertable = false, updatable = false)
+    private Long revision;
+
     public static @NonNull EventJpaEntity fromDomain(@NonNull Event domain) {
         var eventJpaEntity = new EventJpaEntity();
         eventJpaEntity.setType(domain.getType().value());
@@ -91,6 +109,8 @@ public class EventJpaEntity {
         eventJpaEntity.setDescription(domain.getDescription());
         eventJpaEntity.setStart(domain.getStart().toString());
         eventJpaEntity.setEnd(domain.getEnd().toString());
+        eventJpaEntity.setStartMillis(domain.getStart().toEpochMilli());
+        eventJpaEntity.setEndMillis(domain.getEnd().toEpochMilli());
         eventJpaEntity.setLocationsRaw(serializeLocations(domain.getLocations()));
         eventJpaEntity.setSlotsRaw(serializeSlots(domain.getSlots()));
         eventJpaEntity.setConfirmationsRequestsSent(domain.getConfirmationsRequestsSent());
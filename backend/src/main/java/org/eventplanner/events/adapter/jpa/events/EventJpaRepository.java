@@ -1,10 +1,16 @@
 package org.eventplanner.events.adapter.jpa.events;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventJpaEntity, String> {
@@ -12,5 +18,31 @@ public interface EventJpaRepository extends JpaRepository<EventJpaEntity, String
     @NonNull
     List<EventJpaEntity> findAllByYear(int year);
 
+    @NonNull
+    @Query(
+        value = """
+            SELECT e FROM EventJpaEntity e
+            WHERE e.startMillis > :fromMillis AND e.startMillis < :toMillis AND e.state IN :states
+            """
+    )
+    List<EventJpaEntity> findAllStartingBetween(
+        @Param("fromMillis") long fromMillis,
+        @Param("toMillis") long toMillis,
+        @NonNull @Param("states") Collection<String> states
+    );
+
     void deleteAllByYear(int year);
+
+    @NonNull
+    @Query("SELECT e.key AS key, e.revision AS revision FROM EventJpaEntity e WHERE e.year = :year")
+    List<EventRevisionJpaProjection> findRevisionsByYear(@Param("year") int year);
+
+    @NonNull
+    @Query("SELECT e.key AS key, e.revision AS revision FROM EventJpaEntity e WHERE e.key = :key")
+    Optional<EventRevisionJpaProjection> findRevisionByKey(@NonNull @Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventJpaEntity e SET e.revision = e.revision + 1 WHERE e.key = :key")
+    void incrementRevision(@NonNull @Param("key") String key);
 }
@@ -1,13 +1,18 @@
 package org.eventplanner.events.adapter.jpa.events;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eventplanner.events.application.ports.EventRepository;
 import org.eventplanner.events.domain.entities.events.Event;
 import org.eventplanner.events.domain.entities.events.Registration;
 import org.eventplanner.events.domain.values.events.EventKey;
+import org.eventplanner.events.domain.values.events.EventState;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +27,7 @@ public class EventJpaRepositoryAdapter implements EventRepository {
 
     private final RegistrationJpaRepository registrationJpaRepository;
     private final EventJpaRepository eventJpaRepository;
+    private final EventCache eventCache;
 
     @Override
     public @NonNull Optional<Event> findByKey(@NonNull EventKey key) {
@@ -32,17 +38,40 @@ public class EventJpaRepositoryAdapter implements EventRepository {
 
     @Override
     public @NonNull List<Event> findAllByYear(int year) {
-        var eventEntities = this.eventJpaRepository.findAllByYear(year);
-        var eventKeys = eventEntities.stream().map(EventJpaEntity::getKey).toList();
-        var allRegistrationEntities = this.registrationJpaRepository.findAllByEventKeyIn(eventKeys);
-        return eventEntities.stream()
-            .map(entity -> entity.toDomain(allRegistrationEntities
-                .stream()
-                .filter(it -> it.eventKey.equals(entity.getKey()))
-                .map(RegistrationJpaEntity::toDomain)
-                .toList()
-            ))
-            .toList();
+        return eventCache.getOrLoad(year, () -> loadAllByYear(year));
+    }
+
+    @Override
+    public @NonNull List<Event> findStartingBetween(
+        @NonNull Instant from,
+        @NonNull Instant to,
+        @NonNull Set<EventState> states
+    ) {
+        if (states.isEmpty()) {
+            return List.of();
+        }
+        var eventEntities = this.eventJpaRepository.findAllStartingBetween(
+            from.toEpochMilli(),
+            to.toEpochMilli(),
+            states.stream().map(EventState::value).toList()
+        );
+        return toDomain(eventEntities);
+    }
+
+    @Override
+    public @NonNull Map<EventKey, Long> findRevisionsByYear(int year) {
+        return this.eventJpaRepository.findRevisionsByYear(year)
+            .stream()
+            .collect(Collectors.toMap(
+                it -> new EventKey(it.getKey()),
+                EventRevisionJpaProjection::getRevision
+            ));
+    }
+
+    @Override
+    public @NonNull Optional<Long> findRevisionByKey(@NonNull EventKey key) {
+        return this.eventJpaRepository.findRevisionByKey(key.value())
+            .map(EventRevisionJpaProjection::getRevision);
     }
 
     @Override
@@ -54,6 +83,7 @@ public class EventJpaRepositoryAdapter implements EventRepository {
         }
         var entity = EventJpaEntity.fromDomain(event);
         entity = this.eventJpaRepository.save(entity);
+        eventCache.invalidate();
         return entity.toDomain(event.getRegistrations());
     }
 
@@ -65,6 +95,8 @@ public class EventJpaRepositoryAdapter implements EventRepository {
         }
         var entity = EventJpaEntity.fromDomain(event);
         entity = this.eventJpaRepository.save(entity);
+        this.eventJpaRepository.incrementRevision(event.getKey().value());
+        eventCache.invalidate();
         return entity.toDomain(getRegistrations(event.getKey()));
     }
 
@@ -73,12 +105,34 @@ public class EventJpaRepositoryAdapter implements EventRepository {
     public void deleteByKey(@NonNull EventKey key) {
         this.eventJpaRepository.deleteById(key.value());
         this.registrationJpaRepository.deleteAllByEventKey(key.value());
+        eventCache.invalidate();
     }
 
     @Override
     @Transactional
     public void deleteAllByYear(int year) {
         this.eventJpaRepository.deleteAllByYear(year);
+        eventCache.invalidate();
+    }
+
+    private @NonNull List<Event> loadAllByYear(int year) {
+        return toDomain(this.eventJpaRepository.findAllByYear(year));
+    }
+
+    private @NonNull List<Event> toDomain(@NonNull List<EventJpaEntity> eventEntities) {
+        if (eventEntities.isEmpty()) {
+            return List.of();
+        }
+        var eventKeys = eventEntities.stream().map(EventJpaEntity::getKey).toList();
+        var registrationsByEventKey = this.registrationJpaRepository.findAllByEventKeyIn(eventKeys)
+            .stream()
+            .collect(Collectors.groupingBy(
+                RegistrationJpaEntity::getEventKey,
+                Collectors.mapping(RegistrationJpaEntity::toDomain, Collectors.toList())
+            ));
+        return eventEntities.stream()
+            .map(entity -> entity.toDomain(registrationsByEventKey.getOrDefault(entity.getKey(), List.of())))
+            .toList();
     }
 
     private @NonNull List<Registration> getRegistrations(@NonNull EventKey eventKey) {
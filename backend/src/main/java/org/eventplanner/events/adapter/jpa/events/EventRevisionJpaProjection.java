@@ -0,0 +1,11 @@
+package org.eventplanner.events.adapter.jpa.events;
+
+import org.jspecify.annotations.NonNull;
+
+public interface EventRevisionJpaProjection {
+    @NonNull
+    String getKey();
+
+    @NonNull
+    Long getRevision();
+}
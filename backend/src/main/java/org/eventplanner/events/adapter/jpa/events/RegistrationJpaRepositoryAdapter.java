@@ -18,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 public class RegistrationJpaRepositoryAdapter implements RegistrationRepository {
 
     private final RegistrationJpaRepository registrationJpaRepository;
+    private final EventJpaRepository eventJpaRepository;
+    private final EventCache eventCache;
 
     @Override
     public @NonNull Registration createRegistration(@NonNull Registration registration, @NonNull EventKey eventKey) {
@@ -26,6 +28,8 @@ public class RegistrationJpaRepositoryAdapter implements RegistrationRepository
             throw new IllegalStateException("Registration with key " + registration.getKey() + " already exists");
         }
         var entity = registrationJpaRepository.save(RegistrationJpaEntity.fromDomain(registration, eventKey));
+        eventJpaRepository.incrementRevision(eventKey.value());
+        eventCache.invalidate();
         return entity.toDomain();
     }
 
@@ -35,11 +39,15 @@ public class RegistrationJpaRepositoryAdapter implements RegistrationRepository
             throw new NoSuchElementException("Registration with key " + registration.getKey() + " does not exist");
         }
         var entity = registrationJpaRepository.save(RegistrationJpaEntity.fromDomain(registration, eventKey));
+        eventJpaRepository.incrementRevision(eventKey.value());
+        eventCache.invalidate();
         return entity.toDomain();
     }
 
     @Override
     public void deleteRegistration(@NonNull RegistrationKey registrationKey, @NonNull EventKey eventKey) {
         registrationJpaRepository.deleteByKeyAndEventKey(registrationKey.value(), eventKey.value());
+        eventJpaRepository.incrementRevision(eventKey.value());
+        eventCache.invalidate();
     }
 }
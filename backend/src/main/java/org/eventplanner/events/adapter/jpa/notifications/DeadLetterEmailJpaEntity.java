@@ -0,0 +1,52 @@
+package org.eventplanner.events.adapter.jpa.notifications;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "dead_letter_emails")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class DeadLetterEmailJpaEntity {
+
+    @Id
+    @Column(name = "key", nullable = false, updatable = false)
+    private String key;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "email", nullable = false)
+    private String email;
+
+    @Column(name = "user_key", nullable = false)
+    private String userKey;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false)
+    private String body;
+
+    @Column(name = "retries", nullable = false)
+    private Integer retries;
+
+    @Column(name = "created_at", nullable = false)
+    private String createdAt;
+
+    @Column(name = "failed_at", nullable = false)
+    private String failedAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
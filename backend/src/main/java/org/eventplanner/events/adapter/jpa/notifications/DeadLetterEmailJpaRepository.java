@@ -0,0 +1,8 @@
+package org.eventplanner.events.adapter.jpa.notifications;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeadLetterEmailJpaRepository extends JpaRepository<DeadLetterEmailJpaEntity, String> {
+}
@@ -51,6 +51,15 @@ public class QueuedEmailJpaEntity {
     @Column(name = "created_at", nullable = false)
     private String createdAt;
 
+    @Column(name = "not_before", nullable = false)
+    private Long notBefore;
+
+    @Column(name = "leased_until", nullable = false)
+    private Long leasedUntil;
+
+    @Column(name = "lease_token")
+    private String leaseToken;
+
     public @NonNull QueuedEmail toDomain() {
         return new QueuedEmail(
             key,
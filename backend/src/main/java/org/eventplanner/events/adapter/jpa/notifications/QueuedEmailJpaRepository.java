@@ -1,14 +1,71 @@
 package org.eventplanner.events.adapter.jpa.notifications;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface QueuedEmailJpaRepository extends JpaRepository<QueuedEmailJpaEntity, String> {
 
+    /**
+     * Leases up to the given number of due emails, that are not leased or whose lease has expired, in the order they
+     * became due. This is a single statement, so concurrent senders can never lease the same email.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+            UPDATE queued_emails SET lease_token = :token, leased_until = :leasedUntil
+            WHERE key IN (
+                SELECT key FROM queued_emails
+                WHERE not_before <= :now AND leased_until <= :now
+                ORDER BY not_before, created_at
+                LIMIT :limit
+            )
+            """,
+        nativeQuery = true
+    )
+    int lease(
+        @NonNull @Param("token") String token,
+        @Param("leasedUntil") long leasedUntil,
+        @Param("now") long now,
+        @Param("limit") int limit
+    );
+
     @NonNull
-    Optional<QueuedEmailJpaEntity> findFirstByOrderByCreatedAtAsc();
+    List<QueuedEmailJpaEntity> findAllByLeaseTokenOrderByCreatedAtAsc(@NonNull String leaseToken);
+
+    /**
+     * Returns a leased email to the queue, if it is still leased with the given token.
+     *
+     * @return the number of rescheduled emails, 0 if the lease was lost
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE QueuedEmailJpaEntity e
+        SET e.retries = e.retries + 1, e.notBefore = :notBefore, e.leasedUntil = 0, e.leaseToken = NULL
+        WHERE e.key = :key AND e.leaseToken = :token
+        """)
+    int reschedule(
+        @NonNull @Param("key") String key,
+        @NonNull @Param("token") String token,
+        @Param("notBefore") long notBefore
+    );
+
+    /**
+     * Deletes a leased email, if it is still leased with the given token.
+     *
+     * @return the number of deleted emails, 0 if the lease was lost
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM QueuedEmailJpaEntity e WHERE e.key = :key AND e.leaseToken = :token")
+    int deleteLeased(@NonNull @Param("key") String key, @NonNull @Param("token") String token);
 }
@@ -1,12 +1,18 @@
 package org.eventplanner.events.adapter.jpa.notifications;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
 import org.eventplanner.events.application.ports.QueuedEmailRepository;
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,12 +21,55 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class QueuedEmailJpaRepositoryAdapter implements QueuedEmailRepository {
     private final QueuedEmailJpaRepository repository;
+    private final DeadLetterEmailJpaRepository deadLetterRepository;
+    private final EntityManager entityManager;
 
     @Override
-    public @NonNull Optional<QueuedEmail> next() {
-        var next = repository.findFirstByOrderByCreatedAtAsc().map(QueuedEmailJpaEntity::toDomain);
-        next.ifPresent(email -> repository.deleteById(email.getKey()));
-        return next;
+    public @NonNull List<QueuedEmail> claim(int limit, @NonNull Duration leaseDuration) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        var token = UUID.randomUUID().toString();
+        var now = Instant.now();
+        var leased = repository.lease(token, now.plus(leaseDuration).toEpochMilli(), now.toEpochMilli(), limit);
+        if (leased == 0) {
+            return List.of();
+        }
+        return repository.findAllByLeaseTokenOrderByCreatedAtAsc(token).stream()
+            .map(entity -> entity.toDomain().withLeaseToken(token))
+            .toList();
+    }
+
+    @Override
+    public boolean ack(@NonNull String key, @NonNull String leaseToken) {
+        return repository.deleteLeased(key, leaseToken) > 0;
+    }
+
+    @Override
+    public boolean nack(@NonNull String key, @NonNull String leaseToken, @NonNull Duration retryAfter) {
+        return repository.reschedule(key, leaseToken, Instant.now().plus(retryAfter).toEpochMilli()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean deadLetter(@NonNull String key, @NonNull String leaseToken, @Nullable String lastError) {
+        var email = repository.findById(key).orElse(null);
+        if (email == null || repository.deleteLeased(key, leaseToken) == 0) {
+            return false;
+        }
+        deadLetterRepository.save(new DeadLetterEmailJpaEntity(
+            email.getKey(),
+            email.getType(),
+            email.getEmail(),
+            email.getUserKey(),
+            email.getSubject(),
+            email.getBody(),
+            email.getRetries(),
+            email.getCreatedAt(),
+            Instant.now().toString(),
+            lastError
+        ));
+        return true;
     }
 
     @Override
@@ -29,7 +78,34 @@ public class QueuedEmailJpaRepositoryAdapter implements QueuedEmailRepository {
             log.error("Failed to queue email: key {} already exists", email.getKey());
             throw new IllegalStateException("Queued email with key " + email.getKey() + " already exists");
         }
-        repository.save(new QueuedEmailJpaEntity(
+        repository.save(toEntity(email));
+    }
+
+    @Override
+    @Transactional
+    public void queueAll(@NonNull List<QueuedEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        var existing = repository.findAllById(emails.stream().map(QueuedEmail::getKey).toList());
+        if (!existing.isEmpty()) {
+            var key = existing.getFirst().getKey();
+            log.error("Failed to queue {} emails: key {} already exists", emails.size(), key);
+            throw new IllegalStateException("Queued email with key " + key + " already exists");
+        }
+        // persist instead of save, as save would look up every email by its key again before inserting it
+        emails.stream()
+            .map(this::toEntity)
+            .forEach(entityManager::persist);
+    }
+
+    @Override
+    public void deleteByKey(@NonNull String key) {
+        repository.deleteById(key);
+    }
+
+    private @NonNull QueuedEmailJpaEntity toEntity(@NonNull QueuedEmail email) {
+        return new QueuedEmailJpaEntity(
             email.getKey(),
             email.getType().toString(),
             email.getTo(),
@@ -37,13 +113,11 @@ public class QueuedEmailJpaRepositoryAdapter implements QueuedEmailRepository {
             email.getSubject(),
             email.getBody(),
             email.getRetries(),
-            email.getCreatedAt().toString()
-        ));
-    }
-
-    @Override
-    public void deleteByKey(@NonNull String key) {
-        repository.deleteById(key);
+            email.getCreatedAt().toString(),
+            email.getCreatedAt().toEpochMilli(),
+            0L,
+            null
+        );
     }
 
 }
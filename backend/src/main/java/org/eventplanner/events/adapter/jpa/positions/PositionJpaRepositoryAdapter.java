@@ -1,49 +1,60 @@
 package org.eventplanner.events.adapter.jpa.positions;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
-
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import org.eventplanner.events.adapter.jpa.CatalogCache;
 import org.eventplanner.events.application.ports.PositionRepository;
 import org.eventplanner.events.domain.entities.positions.Position;
 import org.eventplanner.events.domain.values.positions.PositionKey;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PositionJpaRepositoryAdapter implements PositionRepository {
 
     private final PositionJpaRepository positionJpaRepository;
+    private final CatalogCache<PositionKey, Position> positions;
+
+    public PositionJpaRepositoryAdapter(@NonNull @Autowired final PositionJpaRepository positionJpaRepository) {
+        this.positionJpaRepository = positionJpaRepository;
+        this.positions = new CatalogCache<>("position", this::loadAll, Position::getKey, Position::copy);
+    }
+
+    /**
+     * Loads all positions on startup, so that the first requests do not have to wait for them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        positions.reload();
+    }
 
     @Override
     public @NonNull Optional<Position> findByKey(@Nullable final PositionKey key) {
         if (key == null) {
             return Optional.empty();
         }
-        return positionJpaRepository.findById(key.value()).map(PositionJpaEntity::toDomain);
+        return positions.findByKey(key);
     }
 
     @Override
     public @NonNull List<Position> findAll() {
-        return positionJpaRepository.findAll().stream().map(PositionJpaEntity::toDomain).toList();
+        return positions.findAll();
     }
 
     @Override
     public @NonNull Map<PositionKey, Position> findAllAsMap() {
-        return positionJpaRepository.findAll().stream()
-            .map(PositionJpaEntity::toDomain)
-            .collect(toMap(Position::getKey, identity()));
+        return positions.findAllAsMap();
     }
 
     @Override
@@ -54,6 +65,7 @@ public class PositionJpaRepositoryAdapter implements PositionRepository {
             throw new IllegalArgumentException("Position with key " + position.getKey().value() + " already exists");
         }
         positionJpaRepository.save(PositionJpaEntity.fromDomain(position));
+        positions.reloadAfterCommit();
     }
 
     @Override
@@ -63,6 +75,7 @@ public class PositionJpaRepositoryAdapter implements PositionRepository {
             throw new NoSuchElementException("Position with key " + position.getKey() + " does not exist");
         }
         positionJpaRepository.save(PositionJpaEntity.fromDomain(position));
+        positions.reloadAfterCommit();
     }
 
     @Override
@@ -72,5 +85,10 @@ public class PositionJpaRepositoryAdapter implements PositionRepository {
             throw new NoSuchElementException("Position with key " + key + " does not exist");
         }
         positionJpaRepository.deleteById(key.value());
+        positions.reloadAfterCommit();
+    }
+
+    private @NonNull List<Position> loadAll() {
+        return positionJpaRepository.findAll().stream().map(PositionJpaEntity::toDomain).toList();
     }
 }
@@ -1,45 +1,63 @@
 package org.eventplanner.events.adapter.jpa.qualifications;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
-
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import org.eventplanner.events.adapter.jpa.CatalogCache;
 import org.eventplanner.events.application.ports.QualificationRepository;
 import org.eventplanner.events.domain.entities.qualifications.Qualification;
 import org.eventplanner.events.domain.values.qualifications.QualificationKey;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class QualificationJpaRepositoryAdapter implements QualificationRepository {
 
     private final QualificationJpaRepository qualificationJpaRepository;
+    private final CatalogCache<QualificationKey, Qualification> qualifications;
+
+    public QualificationJpaRepositoryAdapter(
+        @NonNull @Autowired final QualificationJpaRepository qualificationJpaRepository
+    ) {
+        this.qualificationJpaRepository = qualificationJpaRepository;
+        this.qualifications = new CatalogCache<>(
+            "qualification",
+            this::loadAll,
+            Qualification::getKey,
+            Qualification::copy
+        );
+    }
+
+    /**
+     * Loads all qualifications on startup, so that the first requests do not have to wait for them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        qualifications.reload();
+    }
 
     @Override
     public @NonNull Optional<Qualification> findByKey(@NonNull final QualificationKey qualificationKey) {
-        return qualificationJpaRepository.findById(qualificationKey.value()).map(QualificationJpaEntity::toDomain);
+        return qualifications.findByKey(qualificationKey);
     }
 
     @Override
     public @NonNull List<Qualification> findAll() {
-        return qualificationJpaRepository.findAll().stream().map(QualificationJpaEntity::toDomain).toList();
+        return qualifications.findAll();
     }
 
     @Override
     public @NonNull Map<QualificationKey, Qualification> findAllAsMap() {
-        return qualificationJpaRepository.findAll().stream()
-            .map(QualificationJpaEntity::toDomain)
-            .collect(toMap(Qualification::getKey, identity()));
+        return qualifications.findAllAsMap();
     }
 
     @Override
@@ -51,6 +69,7 @@ public class QualificationJpaRepositoryAdapter implements QualificationRepositor
                 .value() + " already exists");
         }
         qualificationJpaRepository.save(QualificationJpaEntity.fromDomain(qualification));
+        qualifications.reloadAfterCommit();
     }
 
     @Override
@@ -61,6 +80,7 @@ public class QualificationJpaRepositoryAdapter implements QualificationRepositor
                 .value() + " does not exist");
         }
         qualificationJpaRepository.save(QualificationJpaEntity.fromDomain(qualification));
+        qualifications.reloadAfterCommit();
     }
 
     @Override
@@ -70,5 +90,10 @@ public class QualificationJpaRepositoryAdapter implements QualificationRepositor
             throw new NoSuchElementException("Qualification with key " + key.value() + " does not exist");
         }
         qualificationJpaRepository.deleteById(key.value());
+        qualifications.reloadAfterCommit();
+    }
+
+    private @NonNull List<Qualification> loadAll() {
+        return qualificationJpaRepository.findAll().stream().map(QualificationJpaEntity::toDomain).toList();
     }
 }
@@ -126,6 +126,9 @@ public class EncryptedUserDetailsJpaEntity implements Serializable {
     @Column(name = "diet")
     private String diet;
 
+    @Column(name = "email_index")
+    private String emailIndex;
+
     public static @NonNull EncryptedUserDetailsJpaEntity fromDomain(@NonNull EncryptedUserDetails domain) {
         String roles = "[]";
         try {
@@ -188,7 +191,8 @@ public class EncryptedUserDetailsJpaEntity implements Serializable {
             domain.getDiseases() != null ? domain.getDiseases().value() : null,
             domain.getIntolerances() != null ? domain.getIntolerances().value() : null,
             domain.getMedication() != null ? domain.getMedication().value() : null,
-            domain.getDiet() != null ? domain.getDiet().value() : null
+            domain.getDiet() != null ? domain.getDiet().value() : null,
+            domain.getEmailIndex()
         );
     }
 
@@ -258,7 +262,8 @@ public class EncryptedUserDetailsJpaEntity implements Serializable {
             diseases != null ? new Encrypted<>(diseases) : null,
             intolerances != null ? new Encrypted<>(intolerances) : null,
             medication != null ? new Encrypted<>(medication) : null,
-            diet != null ? new Encrypted<>(diet) : null
+            diet != null ? new Encrypted<>(diet) : null,
+            emailIndex
         );
     }
 }
\ No newline at end of file
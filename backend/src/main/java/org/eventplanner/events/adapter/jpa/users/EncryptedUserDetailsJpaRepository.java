@@ -13,5 +13,8 @@ public interface EncryptedUserDetailsJpaRepository extends JpaRepository<Encrypt
     @NonNull
     Optional<EncryptedUserDetailsJpaEntity> findByAuthKey(@NonNull String authKey);
 
+    @NonNull
+    Optional<EncryptedUserDetailsJpaEntity> findFirstByEmailIndex(@NonNull String emailIndex);
+
     boolean existsByAuthKey(@NonNull String authKey);
 }
\ No newline at end of file
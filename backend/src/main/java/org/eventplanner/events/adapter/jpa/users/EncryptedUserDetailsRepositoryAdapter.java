@@ -43,6 +43,12 @@ public class EncryptedUserDetailsRepositoryAdapter implements UserRepository {
             .map(EncryptedUserDetailsJpaEntity::toDomain);
     }
 
+    @Override
+    public @NonNull Optional<EncryptedUserDetails> findByEmailIndex(@NonNull final String emailIndex) {
+        return encryptedUserDetailsJpaRepository.findFirstByEmailIndex(emailIndex)
+            .map(EncryptedUserDetailsJpaEntity::toDomain);
+    }
+
     @Override
     @Transactional
     public @NonNull EncryptedUserDetails create(@NonNull final EncryptedUserDetails user)
@@ -1,26 +1,65 @@
 package org.eventplanner.events.adapter.mail;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.logging.log4j.util.Strings;
 import org.eventplanner.events.application.ports.EmailSender;
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
 import org.eventplanner.events.domain.values.config.EmailConfig;
 import org.jspecify.annotations.NonNull;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.Address;
 import jakarta.mail.Message.RecipientType;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Sends emails over a long-lived connection to the mail server, so that each email does not have to pay for its own
+ * connect, TLS handshake and authentication. The connection is rebuilt when the connection settings change, after it
+ * was not used for the configured idle timeout, and after sending over it failed. A failed email is never sent again
+ * here, as the server might have accepted it already. It is retried by the email queue instead.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JavaEmailAdapter implements EmailSender {
 
+    private final Duration idleTimeout;
+    private final Counter connects;
+    private final ReentrantLock lock = new ReentrantLock();
+    private @Nullable ConnectionSettings connectionSettings;
+    private @Nullable Session session;
+    private @Nullable Transport transport;
+    private @NonNull Instant lastUsed = Instant.EPOCH;
+
+    public JavaEmailAdapter(
+        @NonNull @Value("${email.connection.idle-timeout}") final Duration idleTimeout,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        this.idleTimeout = idleTimeout;
+        this.connects = Counter.builder("email.connections")
+            .description("Number of connections opened to the mail server")
+            .register(meterRegistry);
+    }
+
     @Override
     public void sendEmail(@NonNull final QueuedEmail notification, @NonNull final EmailConfig emailConfig)
     throws Exception {
@@ -28,8 +67,125 @@ public class JavaEmailAdapter implements EmailSender {
             throw new IllegalStateException("Email settings must contain all the required fields");
         }
 
-        var mailSender = getMailSender(emailConfig);
-        MimeMessage message = mailSender.createMimeMessage();
+        lock.lock();
+        try {
+            var connectedSession = connect(emailConfig);
+            send(createMessage(connectedSession, notification, emailConfig));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NonNull Map<String, Exception> sendEmails(
+        @NonNull final List<QueuedEmail> notifications,
+        @NonNull final EmailConfig emailConfig
+    ) {
+        var failures = new HashMap<String, Exception>();
+        lock.lock();
+        try {
+            for (var notification : notifications) {
+                try {
+                    // reconnects only if sending the previous email broke the connection
+                    var connectedSession = connect(emailConfig);
+                    send(createMessage(connectedSession, notification, emailConfig));
+                } catch (Exception e) {
+                    failures.put(notification.getKey(), e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return failures;
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            disconnect();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes sure there is a usable connection for the given settings, opening a new one if required.
+     *
+     * @param emailConfig the email settings
+     * @return the session of the connection
+     */
+    private @NonNull Session connect(@NonNull final EmailConfig emailConfig) throws MessagingException {
+        var settings = ConnectionSettings.of(emailConfig);
+        if (!settings.equals(connectionSettings)) {
+            disconnect();
+            connectionSettings = settings;
+            session = Session.getInstance(settings.toProperties());
+        }
+        // a connection used within the idle timeout is trusted without checking it with a NOOP round trip, if the
+        // server closed it anyway, sending fails and the next email reconnects
+        var idle = !Instant.now().isBefore(lastUsed.plus(idleTimeout));
+        if (transport == null || idle) {
+            reconnect(settings);
+        }
+        return currentSession();
+    }
+
+    private void reconnect(@NonNull final ConnectionSettings settings) throws MessagingException {
+        disconnect();
+        var newTransport = currentSession().getTransport("smtp");
+        newTransport.connect(settings.host(), settings.port(), settings.username(), settings.password());
+        connects.increment();
+        transport = newTransport;
+        lastUsed = Instant.now();
+    }
+
+    private void send(@NonNull final MimeMessage message) throws MessagingException {
+        message.setSentDate(new Date());
+        message.saveChanges();
+        var currentTransport = transport;
+        if (currentTransport == null) {
+            throw new MessagingException("Not connected to the mail server");
+        }
+        try {
+            currentTransport.sendMessage(message, message.getAllRecipients());
+            lastUsed = Instant.now();
+        } catch (MessagingException e) {
+            // a rejected message leaves the connection usable, any other failure might have broken it
+            if (!(e instanceof SendFailedException) || !currentTransport.isConnected()) {
+                disconnect();
+            }
+            throw e;
+        }
+    }
+
+    private @NonNull Session currentSession() {
+        var currentSession = session;
+        if (currentSession == null) {
+            throw new IllegalStateException("No mail session available");
+        }
+        return currentSession;
+    }
+
+    private void disconnect() {
+        var currentTransport = transport;
+        transport = null;
+        if (currentTransport == null) {
+            return;
+        }
+        try {
+            currentTransport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close connection to the mail server", e);
+        }
+    }
+
+    private @NonNull MimeMessage createMessage(
+        @NonNull final Session session,
+        @NonNull final QueuedEmail notification,
+        @NonNull final EmailConfig emailConfig
+    ) throws Exception {
+        var message = new MimeMessage(session);
 
         var from = emailConfig.username();
         var fromDisplayName = emailConfig.username();
@@ -58,36 +214,54 @@ public class JavaEmailAdapter implements EmailSender {
         message.setRecipients(RecipientType.TO, notification.getTo().trim());
         message.setSubject(notification.getSubject());
         message.setContent(notification.getBody(), "text/html; charset=utf-8");
-
-        mailSender.send(message);
+        return message;
     }
 
-    private @NonNull JavaMailSender getMailSender(@NonNull EmailConfig emailConfig) {
-        var host = emailConfig.host();
-        var port = emailConfig.port();
-        var username = emailConfig.username();
-        var password = emailConfig.password();
-
-        if (username == null || username.isBlank()
-            || password == null || password.isBlank()
-            || host == null || host.isBlank()
-            || port == null || port == 0
-        ) {
-            throw new IllegalStateException("Email settings must contain all the required fields");
-        }
+    /**
+     * The part of the email settings that requires a new connection when changed.
+     */
+    private record ConnectionSettings(
+        @NonNull String host,
+        int port,
+        @NonNull String username,
+        @NonNull String password,
+        boolean enableSSL,
+        boolean enableStartTls
+    ) {
+        static @NonNull ConnectionSettings of(@NonNull final EmailConfig emailConfig) {
+            var host = emailConfig.host();
+            var port = emailConfig.port();
+            var username = emailConfig.username();
+            var password = emailConfig.password();
 
-        final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-        mailSender.setHost(host);
-        mailSender.setPort(port);
-        mailSender.setProtocol("smtp");
-        mailSender.setUsername(username);
-        mailSender.setPassword(password);
+            if (username == null || username.isBlank()
+                || password == null || password.isBlank()
+                || host == null || host.isBlank()
+                || port == null || port == 0
+            ) {
+                throw new IllegalStateException("Email settings must contain all the required fields");
+            }
+            return new ConnectionSettings(
+                host,
+                port,
+                username,
+                password,
+                Boolean.TRUE.equals(emailConfig.enableSSL()),
+                Boolean.TRUE.equals(emailConfig.enableStartTls())
+            );
+        }
 
-        final Properties javaMailProperties = new Properties();
-        javaMailProperties.put("mail.smtp.auth", true);
-        javaMailProperties.put("mail.smtp.starttls.enable", emailConfig.enableStartTls());
-        javaMailProperties.put("mail.smtp.ssl.enable", emailConfig.enableSSL());
-        mailSender.setJavaMailProperties(javaMailProperties);
-        return mailSender;
+        @NonNull
+        Properties toProperties() {
+            final Properties javaMailProperties = new Properties();
+            javaMailProperties.put("mail.smtp.auth", true);
+            javaMailProperties.put("mail.smtp.starttls.enable", enableStartTls);
+            javaMailProperties.put("mail.smtp.ssl.enable", enableSSL);
+            // the connection is kept open, so a stalled server must not block sending forever
+            javaMailProperties.put("mail.smtp.connectiontimeout", "10000");
+            javaMailProperties.put("mail.smtp.timeout", "30000");
+            javaMailProperties.put("mail.smtp.writetimeout", "30000");
+            return javaMailProperties;
+        }
     }
 }
@@ -0,0 +1,13 @@
+package org.eventplanner.events.application.events;
+
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Published when a user was updated or deleted, so that components holding a copy of the user, like the principals of
+ * signed-in users, can refresh it. Within a transaction the event is published before the change was committed.
+ *
+ * @param userKey the key of the changed user
+ */
+public record UserChangedEvent(@NonNull UserKey userKey) {
+}
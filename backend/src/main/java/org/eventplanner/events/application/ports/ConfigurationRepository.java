@@ -5,8 +5,18 @@ import org.eventplanner.events.domain.functions.EncryptFunc;
 import org.jspecify.annotations.NonNull;
 
 public interface ConfigurationRepository {
+    /**
+     * Stores the changed settings and increments the settings version.
+     */
     public void updateConfig(
         @NonNull final ApplicationConfigUpdateSpec spec,
         @NonNull final EncryptFunc encryptFunc
     );
+
+    /**
+     * Returns the version of the stored settings, which changes with every update of any instance.
+     *
+     * @return the settings version
+     */
+    public long getVersion();
 }
@@ -1,5 +1,9 @@
 package org.eventplanner.events.application.ports;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
 import org.eventplanner.events.domain.values.config.EmailConfig;
 import org.jspecify.annotations.NonNull;
@@ -10,4 +14,27 @@ public interface EmailSender {
         @NonNull final EmailConfig emailConfig
     )
     throws Exception;
+
+    /**
+     * Sends all given emails, ideally over a single connection to the mail server. A failing email does not prevent
+     * the remaining emails from being sent.
+     *
+     * @param notifications the emails to send
+     * @param emailConfig   the mail server settings
+     * @return the failure of each email that could not be sent by the key of the queued email
+     */
+    public default @NonNull Map<String, Exception> sendEmails(
+        @NonNull final List<QueuedEmail> notifications,
+        @NonNull final EmailConfig emailConfig
+    ) {
+        var failures = new HashMap<String, Exception>();
+        for (var notification : notifications) {
+            try {
+                sendEmail(notification, emailConfig);
+            } catch (Exception e) {
+                failures.put(notification.getKey(), e);
+            }
+        }
+        return failures;
+    }
 }
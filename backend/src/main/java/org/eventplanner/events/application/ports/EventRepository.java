@@ -1,10 +1,14 @@
 package org.eventplanner.events.application.ports;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eventplanner.events.domain.entities.events.Event;
 import org.eventplanner.events.domain.values.events.EventKey;
+import org.eventplanner.events.domain.values.events.EventState;
 import org.jspecify.annotations.NonNull;
 
 public interface EventRepository {
@@ -14,6 +18,31 @@ public interface EventRepository {
     @NonNull
     List<Event> findAllByYear(int year);
 
+    /**
+     * Returns all events in one of the given states, that start after the given start and before the given end. Unlike
+     * {@link #findAllByYear(int)} only the matching events and their registrations are read.
+     *
+     * @param from   the exclusive lower bound of the event start
+     * @param to     the exclusive upper bound of the event start
+     * @param states the states of the events
+     * @return the matching events
+     */
+    @NonNull
+    List<Event> findStartingBetween(@NonNull Instant from, @NonNull Instant to, @NonNull Set<EventState> states);
+
+    /**
+     * Returns the revisions of all events of the given year. The revision of an event is incremented whenever the event
+     * or one of its registrations changes.
+     *
+     * @param year the year of the events
+     * @return the revisions by event key
+     */
+    @NonNull
+    Map<EventKey, Long> findRevisionsByYear(int year);
+
+    @NonNull
+    Optional<Long> findRevisionByKey(@NonNull EventKey key);
+
     @NonNull
     Event create(@NonNull Event event);
 
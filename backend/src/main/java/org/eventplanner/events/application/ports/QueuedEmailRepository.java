@@ -1,16 +1,64 @@
 package org.eventplanner.events.application.ports;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.List;
 
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public interface QueuedEmailRepository {
 
+    /**
+     * Leases the queued emails that are due, in the order they became due, skipping emails leased by another sender.
+     * Leased emails stay in the queue and are handed out again once the lease has expired, unless they were
+     * acknowledged before. Each claimed email carries the lease token, which must be passed back when acknowledging it.
+     *
+     * @param limit         the maximum number of emails to claim
+     * @param leaseDuration how long the emails are reserved for the caller
+     * @return the claimed emails, oldest first
+     */
     @NonNull
-    Optional<QueuedEmail> next();
+    List<QueuedEmail> claim(int limit, @NonNull Duration leaseDuration);
+
+    /**
+     * Removes a claimed email from the queue after it was sent.
+     *
+     * @param key        the key of the queued email
+     * @param leaseToken the lease token of the claimed email
+     * @return false if the lease was lost, because it expired and another sender claimed the email
+     */
+    boolean ack(@NonNull String key, @NonNull String leaseToken);
+
+    /**
+     * Returns a claimed email to the queue after sending it failed and counts the retry. The email becomes due again
+     * once the given delay has passed.
+     *
+     * @param key        the key of the queued email
+     * @param leaseToken the lease token of the claimed email
+     * @param retryAfter the delay before the email may be claimed again
+     * @return false if the lease was lost, because it expired and another sender claimed the email
+     */
+    boolean nack(@NonNull String key, @NonNull String leaseToken, @NonNull Duration retryAfter);
+
+    /**
+     * Moves a claimed email that could not be sent after all retries from the queue to the dead letters.
+     *
+     * @param key        the key of the queued email
+     * @param leaseToken the lease token of the claimed email
+     * @param lastError  the error of the last attempt to send the email
+     * @return false if the lease was lost, because it expired and another sender claimed the email
+     */
+    boolean deadLetter(@NonNull String key, @NonNull String leaseToken, @Nullable String lastError);
 
     void queue(@NonNull QueuedEmail email);
 
+    /**
+     * Queues all given emails at once. Fails without queueing any email, if one of them is already queued.
+     *
+     * @param emails the emails to queue
+     */
+    void queueAll(@NonNull List<QueuedEmail> emails);
+
     void deleteByKey(@NonNull String key);
 }
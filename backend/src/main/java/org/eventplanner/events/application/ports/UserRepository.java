@@ -20,6 +20,9 @@ public interface UserRepository {
     @NonNull
     Optional<EncryptedUserDetails> findByAuthKey(@NonNull AuthKey key);
 
+    @NonNull
+    Optional<EncryptedUserDetails> findByEmailIndex(@NonNull String emailIndex);
+
     @NonNull
     EncryptedUserDetails create(@NonNull EncryptedUserDetails user) throws UserAlreadyExistsException;
 
@@ -0,0 +1,32 @@
+package org.eventplanner.events.application.scheduled;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eventplanner.events.application.services.ConfigurationService;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigurationScheduler {
+
+    private final ConfigurationService configurationService;
+
+    @Scheduled(fixedDelay = 30L, timeUnit = TimeUnit.SECONDS)
+    public void reloadChangedConfig() {
+        MDC.put("trace_id", UUID.randomUUID().toString());
+        try {
+            configurationService.reloadIfChanged();
+        } catch (Exception e) {
+            log.error("Failed to check for changed settings", e);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
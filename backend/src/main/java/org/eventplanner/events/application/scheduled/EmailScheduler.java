@@ -25,7 +25,7 @@ public class EmailScheduler {
         MDC.put("trace_id", UUID.randomUUID().toString());
         try {
             SecurityContextHolder.getContext().setAuthentication(new SystemUser());
-            emailService.sendNextEmail();
+            emailService.sendNextEmails();
         } catch (Exception e) {
             log.error("Failed to send email", e);
         } finally {
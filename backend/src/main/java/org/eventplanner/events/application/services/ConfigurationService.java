@@ -2,6 +2,7 @@ package org.eventplanner.events.application.services;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eventplanner.events.application.ports.ConfigurationRepository;
 import org.eventplanner.events.application.ports.ConfigurationSource;
@@ -9,11 +10,17 @@ import org.eventplanner.events.domain.aggregates.ApplicationConfig;
 import org.eventplanner.events.domain.aggregates.ApplicationConfig.ApplicationConfigUpdateSpec;
 import org.eventplanner.events.domain.values.notifications.NotificationType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Keeps the merged application config of all configuration sources as an immutable snapshot. The snapshot is loaded
+ * once on first access, concurrent first readers wait for a single load instead of each reading and decrypting all
+ * settings. Updates of other instances are detected by comparing the settings version stored in the database.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,24 +29,71 @@ public class ConfigurationService {
     private final ConfigurationRepository configurationRepository;
     private final List<ConfigurationSource> configurationSources;
     private final EncryptionService encryptionService;
-    private ApplicationConfig applicationConfig;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile @Nullable Snapshot snapshot;
 
     public boolean isNotificationEnabled(@NonNull final NotificationType type) {
         return getConfig().notifications().isNotificationEnabled(type);
     }
 
     public @NonNull ApplicationConfig getConfig() {
-        if (applicationConfig == null) {
-            applicationConfig = readConfig();
-        }
-        return applicationConfig;
+        return getSnapshot().config();
     }
 
     public @NonNull ApplicationConfig updateConfig(@NonNull final ApplicationConfigUpdateSpec spec) {
         var changed = spec.clearUnchanged(getConfig());
         configurationRepository.updateConfig(changed, encryptionService::encrypt);
-        applicationConfig = readConfig();
-        return applicationConfig;
+        return reload().config();
+    }
+
+    /**
+     * Reloads the config if another instance has updated the settings since the current config was loaded.
+     */
+    public void reloadIfChanged() {
+        var current = snapshot;
+        if (current == null) {
+            return;
+        }
+        var storedVersion = configurationRepository.getVersion();
+        if (storedVersion != current.storedVersion()) {
+            log.info("Settings version changed from {} to {}", current.storedVersion(), storedVersion);
+            reload();
+        }
+    }
+
+    private @NonNull Snapshot getSnapshot() {
+        var current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            // another thread might have loaded the config while this one was waiting
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            return load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private @NonNull Snapshot reload() {
+        loadLock.lock();
+        try {
+            return load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private @NonNull Snapshot load() {
+        // read the version first, so that an update in between causes another reload instead of being missed
+        var storedVersion = configurationRepository.getVersion();
+        var loaded = new Snapshot(readConfig(), storedVersion);
+        snapshot = loaded;
+        return loaded;
     }
 
     private @NonNull ApplicationConfig readConfig() {
@@ -50,4 +104,7 @@ public class ConfigurationService {
             .reduce(ApplicationConfig::apply)
             .orElse(new ApplicationConfig());
     }
+
+    private record Snapshot(@NonNull ApplicationConfig config, long storedVersion) {
+    }
 }
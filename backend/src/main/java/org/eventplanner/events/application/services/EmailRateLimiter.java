@@ -0,0 +1,75 @@
+package org.eventplanner.events.application.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the number of emails sent per scheduler tick, per minute and per hour, so that draining a large queue does
+ * not exceed the limits of the mail server. The sent emails are tracked in a sliding window of the last hour. A limit
+ * of 0 or less disables the respective limit.
+ */
+@Component
+public class EmailRateLimiter {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private final int batchSize;
+    private final int perMinute;
+    private final int perHour;
+    private final Deque<Instant> sent = new ArrayDeque<>();
+
+    public EmailRateLimiter(
+        @Value("${email.batch-size}") final int batchSize,
+        @Value("${email.rate-limit.per-minute}") final int perMinute,
+        @Value("${email.rate-limit.per-hour}") final int perHour
+    ) {
+        this.batchSize = Math.max(1, batchSize);
+        this.perMinute = perMinute;
+        this.perHour = perHour;
+    }
+
+    /**
+     * Returns the number of emails that may be sent at the given time without exceeding any of the limits.
+     *
+     * @param now the current time
+     * @return the number of emails that may be sent, at most the batch size
+     */
+    public synchronized int available(@NonNull final Instant now) {
+        evictBefore(now.minus(HOUR));
+        var available = batchSize;
+        if (perHour > 0) {
+            available = Math.min(available, perHour - sent.size());
+        }
+        if (perMinute > 0) {
+            var minuteStart = now.minus(MINUTE);
+            var sentInLastMinute = (int) sent.stream().filter(timestamp -> timestamp.isAfter(minuteStart)).count();
+            available = Math.min(available, perMinute - sentInLastMinute);
+        }
+        return Math.max(0, available);
+    }
+
+    /**
+     * Counts the given number of emails as sent at the given time.
+     *
+     * @param now   the current time
+     * @param count the number of sent emails
+     */
+    public synchronized void record(@NonNull final Instant now, final int count) {
+        for (int i = 0; i < count; i++) {
+            sent.addLast(now);
+        }
+    }
+
+    private void evictBefore(@NonNull final Instant windowStart) {
+        while (!sent.isEmpty() && !sent.peekFirst().isAfter(windowStart)) {
+            sent.removeFirst();
+        }
+    }
+}
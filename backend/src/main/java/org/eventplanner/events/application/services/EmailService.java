@@ -1,9 +1,14 @@
 package org.eventplanner.events.application.services;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.eventplanner.events.application.ports.EmailSender;
 import org.eventplanner.events.application.ports.QueuedEmailRepository;
@@ -11,11 +16,11 @@ import org.eventplanner.events.domain.entities.notifications.GlobalNotification;
 import org.eventplanner.events.domain.entities.notifications.Notification;
 import org.eventplanner.events.domain.entities.notifications.PersonalNotification;
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
+import org.eventplanner.events.domain.entities.users.UserDetails;
 import org.eventplanner.events.domain.values.config.EmailConfig;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
-import freemarker.template.Configuration;
 import freemarker.template.TemplateException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,21 +29,61 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class EmailService implements NotificationDispatcher {
+    // claimed emails are handed out again after this time, in case the sender died before acknowledging them
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
     private final ConfigurationService configurationService;
     private final UserService userService;
     private final QueuedEmailRepository queuedEmailRepository;
     private final EmailSender emailSender;
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
+    private final EmailRateLimiter emailRateLimiter;
 
     @Override
     public void dispatch(@NonNull final Notification notification) {
         if (notification instanceof PersonalNotification personalNotification) {
             queueEmail(personalNotification);
         } else if (notification instanceof GlobalNotification globalNotification) {
-            userService.getUsersByRole(globalNotification.recipients())
-                .stream()
-                .map(globalNotification::toPersonalNotification)
-                .forEach(this::queueEmail);
+            queueEmails(globalNotification);
+        }
+    }
+
+    /**
+     * Queues the email of a global notification for all users with the notification's role. The email only differs
+     * in the name in the greeting, so it is rendered once and the name of each recipient is inserted afterward.
+     */
+    private void queueEmails(@NonNull final GlobalNotification notification) {
+        try {
+            var recipients = userService.getUsersByRole(notification.recipients());
+            var emailContent = renderSharedEmailContent(notification);
+            var emails = new ArrayList<QueuedEmail>(recipients.size());
+            for (var recipient : recipients) {
+                var email = recipient.getEmail();
+                if (email == null) {
+                    log.warn(
+                        "Cannot send email notification to user {} because no email address is specified",
+                        recipient.getKey()
+                    );
+                    continue;
+                }
+                emails.add(new QueuedEmail(
+                    notification.type(),
+                    email.trim(),
+                    recipient.getKey(),
+                    notification.title(),
+                    emailContent.forRecipient(recipient)
+                ));
+            }
+            queuedEmailRepository.queueAll(emails);
+        } catch (Exception e) {
+            log.error(
+                "Failed to queue '{}' notification for users with role {}",
+                notification.type(),
+                notification.recipients(),
+                e
+            );
         }
     }
 
@@ -70,64 +115,151 @@ public class EmailService implements NotificationDispatcher {
         }
     }
 
-    public void sendNextEmail() {
-        var maybeNext = queuedEmailRepository.next();
-        if (maybeNext.isPresent()) {
-            var config = configurationService.getConfig().email();
-            var message = maybeNext.get();
-            if (config.titlePrefix() != null && !config.titlePrefix().isEmpty()) {
-                message = message.withSubject(config.titlePrefix() + message.getSubject());
+    /**
+     * Sends as many queued emails as the rate limits allow over a single connection to the mail server. Emails that
+     * must be skipped, because email notifications are disabled or the recipient is not whitelisted, are removed from
+     * the queue without sending them. Failed emails are retried individually with an exponential backoff and moved to
+     * the dead letters after 10 retries.
+     */
+    public void sendNextEmails() {
+        var available = emailRateLimiter.available(Instant.now());
+        if (available <= 0) {
+            log.debug("Rate limit reached, not sending any emails");
+            return;
+        }
+        var next = queuedEmailRepository.claim(available, LEASE_DURATION);
+        if (next.isEmpty()) {
+            return;
+        }
+        var config = configurationService.getConfig().email();
+        var messages = new ArrayList<QueuedEmail>(next.size());
+        for (var email : next) {
+            prepare(email, config).ifPresentOrElse(
+                messages::add,
+                () -> ack(email)
+            );
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        emailRateLimiter.record(Instant.now(), messages.size());
+        var failures = emailSender.sendEmails(messages, getEmailSettings());
+        for (var message : messages) {
+            var failure = failures.get(message.getKey());
+            if (failure != null) {
+                handleFailure(message, failure);
+            } else {
+                ack(message);
             }
+        }
+    }
 
-            if (!Boolean.TRUE.equals(config.enabled())) {
-                log.info(
-                    "Skipped sending {} notification email to user {}, because email notifications are disabled",
-                    message.getType(),
-                    message.getUserKey()
-                );
-                return;
-            }
+    /**
+     * Applies the title prefix and checks whether the email should be sent at all.
+     *
+     * @param queuedEmail the email taken from the queue
+     * @param config      the email settings
+     * @return the email to send or empty, if the email must be skipped
+     */
+    private @NonNull Optional<QueuedEmail> prepare(
+        @NonNull final QueuedEmail queuedEmail,
+        @NonNull final EmailConfig config
+    ) {
+        var message = queuedEmail;
+        if (config.titlePrefix() != null && !config.titlePrefix().isEmpty()) {
+            message = message.withSubject(config.titlePrefix() + message.getSubject());
+        }
 
-            try {
-                if (config.recipientsWhitelist() == null || config.recipientsWhitelist().isEmpty()) {
-                    log.info("Sending {} notification email to user {}", message.getType(), message.getUserKey());
-                } else if (config.recipientsWhitelist().contains(message.getTo())) {
-                    log.info(
-                        "Sending {} notification email to whitelisted recipient {}",
-                        message.getType(),
-                        message.getTo()
-                    );
-                } else {
-                    log.warn(
-                        "Skipped sending {} notification email to user {}, because user is not whitelisted",
-                        message.getType(),
-                        message.getUserKey()
-                    );
-                    return;
-                }
-                emailSender.sendEmail(message, getEmailSettings());
-            } catch (Exception e) {
-                if (message.getRetries() >= 10) {
-                    log.error(
-                        "Failed to send {} notification email to user {} 10 times, this was the last retry",
-                        message.getType(),
-                        message.getUserKey(),
-                        e
-                    );
-                    return;
-                }
-                log.warn(
-                    "Failed to send {} notification email to user {}, queuing email for retry",
-                    message.getType(),
-                    message.getUserKey()
-                );
-                message.setRetries(message.getRetries() + 1);
-                message.setCreatedAt(Instant.now());
-                queuedEmailRepository.queue(message);
+        if (!Boolean.TRUE.equals(config.enabled())) {
+            log.info(
+                "Skipped sending {} notification email to user {}, because email notifications are disabled",
+                message.getType(),
+                message.getUserKey()
+            );
+            return Optional.empty();
+        }
+
+        if (config.recipientsWhitelist() == null || config.recipientsWhitelist().isEmpty()) {
+            log.info("Sending {} notification email to user {}", message.getType(), message.getUserKey());
+        } else if (config.recipientsWhitelist().contains(message.getTo())) {
+            log.info(
+                "Sending {} notification email to whitelisted recipient {}",
+                message.getType(),
+                message.getTo()
+            );
+        } else {
+            log.warn(
+                "Skipped sending {} notification email to user {}, because user is not whitelisted",
+                message.getType(),
+                message.getUserKey()
+            );
+            return Optional.empty();
+        }
+        return Optional.of(message);
+    }
+
+    private void handleFailure(@NonNull final QueuedEmail message, @NonNull final Exception e) {
+        if (message.getRetries() >= 10) {
+            log.error(
+                "Failed to send {} notification email to user {} 10 times, moving it to the dead letters",
+                message.getType(),
+                message.getUserKey(),
+                e
+            );
+            if (!queuedEmailRepository.deadLetter(message.getKey(), leaseToken(message), String.valueOf(e))) {
+                logLostLease(message);
             }
+            return;
+        }
+        var retryDelay = getRetryDelay(message.getRetries());
+        log.warn(
+            "Failed to send {} notification email to user {}, retrying in {}",
+            message.getType(),
+            message.getUserKey(),
+            retryDelay
+        );
+        if (!queuedEmailRepository.nack(message.getKey(), leaseToken(message), retryDelay)) {
+            logLostLease(message);
+        }
+    }
+
+    private void ack(@NonNull final QueuedEmail email) {
+        if (!queuedEmailRepository.ack(email.getKey(), leaseToken(email))) {
+            logLostLease(email);
         }
     }
 
+    private void logLostLease(@NonNull final QueuedEmail email) {
+        log.warn(
+            "Lease of {} notification email to user {} expired and was taken over by another sender",
+            email.getType(),
+            email.getUserKey()
+        );
+    }
+
+    private static @NonNull String leaseToken(@NonNull final QueuedEmail email) {
+        var leaseToken = email.getLeaseToken();
+        if (leaseToken == null) {
+            throw new IllegalStateException("Email " + email.getKey() + " was not claimed from the queue");
+        }
+        return leaseToken;
+    }
+
+    /**
+     * Doubles the delay with every retry, up to a maximum. Half of the delay is random, so that emails failing at the
+     * same time, for example because the mail server is down, are not all retried at once.
+     *
+     * @param retries the number of failed retries so far
+     * @return the delay until the next retry
+     */
+    static @NonNull Duration getRetryDelay(int retries) {
+        var delay = MAX_RETRY_DELAY.toMillis();
+        if (retries < 32) {
+            delay = Math.min(delay, INITIAL_RETRY_DELAY.toMillis() << retries);
+        }
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
     private @NonNull EmailConfig getEmailSettings() {
         return configurationService.getConfig().email();
     }
@@ -140,9 +272,30 @@ public class EmailService implements NotificationDispatcher {
         model.put("content", notification.content());
         model.put("title", notification.title());
 
-        var content = freemarkerConfig.getTemplate("partials/base.ftl");
-        var writer = new StringWriter();
-        content.process(model, writer);
-        return writer.toString();
+        return templateRegistry.render(TemplateRegistry.BASE_TEMPLATE, notification.type(), model);
+    }
+
+    /**
+     * Renders the email of a global notification with a placeholder for the name of the recipient. The base template
+     * may only use the names of the user for this to work, which is enforced by passing only these to the template.
+     */
+    @NonNull
+    protected SharedEmailContent renderSharedEmailContent(@NonNull GlobalNotification notification)
+    throws TemplateException, IOException {
+        var placeholder = "recipient-" + UUID.randomUUID();
+        var model = new HashMap<String, Object>();
+        model.put("user", Map.of("nickName", placeholder, "firstName", placeholder));
+        model.put("content", notification.content());
+        model.put("title", notification.title());
+
+        var body = templateRegistry.render(TemplateRegistry.BASE_TEMPLATE, notification.type(), model);
+        return new SharedEmailContent(body, placeholder);
+    }
+
+    protected record SharedEmailContent(@NonNull String body, @NonNull String placeholder) {
+        @NonNull
+        String forRecipient(@NonNull final UserDetails recipient) {
+            return body.replace(placeholder, recipient.getDisplayName());
+        }
     }
 }
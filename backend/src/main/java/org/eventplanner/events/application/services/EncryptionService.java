@@ -3,10 +3,18 @@ package org.eventplanner.events.application.services;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
 import java.security.spec.KeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.IvParameterSpec;
@@ -14,8 +22,10 @@ import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.eventplanner.common.Encrypted;
+import org.eventplanner.events.domain.functions.DecryptFunc;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -27,25 +37,49 @@ public class EncryptionService {
 
     private static final int ITERATION_COUNT = 512;
     private static final int KEY_LENGTH = 256;
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+    private static final int DEFAULT_CIPHER_POOL_SIZE = 64;
 
     private final JsonMapper jsonMapper;
     private final SecretKeySpec secretKey;
+    private final SecretKeySpec indexKey;
+    // A shared pool instead of thread locals, as thread locals would not be reused by virtual threads
+    private final @Nullable BlockingQueue<Cipher> cipherPool;
+    private final DecryptFunc bulkDecryptFunc = new BulkDecryptFunc(this);
 
+    @Autowired
     public EncryptionService(
         @NonNull final JsonMapper jsonMapper,
         @Nullable @Value("${data.encryption-password}") final String password
+    ) {
+        this(jsonMapper, password, DEFAULT_CIPHER_POOL_SIZE);
+    }
+
+    /**
+     * @param cipherPoolSize maximum number of idle ciphers kept for reuse, 0 disables reusing ciphers
+     */
+    EncryptionService(
+        @NonNull final JsonMapper jsonMapper,
+        @Nullable final String password,
+        final int cipherPoolSize
     ) {
         this.jsonMapper = jsonMapper;
-        this.secretKey = deriveSecretKey("99066439-9e45-48e7-bb3d-7abff0e9cb9c", password);
+        this.secretKey = deriveSecretKey("99066439-9e45-48e7-bb3d-7abff0e9cb9c", password, "AES");
+        this.indexKey = deriveSecretKey("5d7f0a8e-3c2b-4e61-9f14-b2c6e8a0d7f3", password, "HmacSHA256");
+        this.cipherPool = cipherPoolSize > 0 ? new ArrayBlockingQueue<>(cipherPoolSize) : null;
     }
 
-    private static @NonNull SecretKeySpec deriveSecretKey(@NonNull final String salt, @NonNull final String password) {
+    private static @NonNull SecretKeySpec deriveSecretKey(
+        @NonNull final String salt,
+        @NonNull final String password,
+        @NonNull final String algorithm
+    ) {
         try {
             byte[] saltBytes = salt.getBytes(StandardCharsets.UTF_8);
             SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
             KeySpec spec = new PBEKeySpec(password.toCharArray(), saltBytes, ITERATION_COUNT, KEY_LENGTH);
             SecretKey tmp = factory.generateSecret(spec);
-            return new SecretKeySpec(tmp.getEncoded(), "AES");
+            return new SecretKeySpec(tmp.getEncoded(), algorithm);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -53,46 +87,84 @@ public class EncryptionService {
 
     private static @NonNull String encryptWithSecretKey(
         @NonNull final String value,
-        @NonNull final SecretKey secretKey
-    ) {
-        try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            AlgorithmParameters params = cipher.getParameters();
-            IvParameterSpec iv = params.getParameterSpec(IvParameterSpec.class);
-            byte[] ivBytes = iv.getIV();
-            byte[] encryptedTextBytes = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            byte[] finalByteArray = new byte[ivBytes.length + encryptedTextBytes.length];
-            System.arraycopy(ivBytes, 0, finalByteArray, 0, ivBytes.length);
-            System.arraycopy(encryptedTextBytes, 0, finalByteArray, ivBytes.length, encryptedTextBytes.length);
-            return Base64.getEncoder().encodeToString(finalByteArray);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        @NonNull final SecretKey secretKey,
+        @NonNull final Cipher cipher
+    ) throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+        AlgorithmParameters params = cipher.getParameters();
+        IvParameterSpec iv = params.getParameterSpec(IvParameterSpec.class);
+        byte[] ivBytes = iv.getIV();
+        byte[] encryptedTextBytes = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        byte[] finalByteArray = new byte[ivBytes.length + encryptedTextBytes.length];
+        System.arraycopy(ivBytes, 0, finalByteArray, 0, ivBytes.length);
+        System.arraycopy(encryptedTextBytes, 0, finalByteArray, ivBytes.length, encryptedTextBytes.length);
+        return Base64.getEncoder().encodeToString(finalByteArray);
     }
 
     private static @NonNull String decryptWithSecretKey(
         @NonNull final String encrypted,
-        @NonNull final SecretKey secretKey
-    ) {
+        @NonNull final SecretKey secretKey,
+        @NonNull final Cipher cipher
+    ) throws GeneralSecurityException {
+        byte[] cipherTextBytes = Base64.getDecoder().decode(encrypted);
+        IvParameterSpec iv = new IvParameterSpec(cipherTextBytes, 0, 16);
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, iv);
+        byte[] original = cipher.doFinal(cipherTextBytes, 16, cipherTextBytes.length - 16);
+        return new String(original, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Takes an idle cipher from the pool or creates a new one. Ciphers are not thread safe, so a borrowed cipher must
+     * only be used by the borrowing thread and be given back with {@link #returnCipher(Cipher)} afterward. Reusing
+     * ciphers saves the provider lookup and, as long as the key stays the same, the AES key expansion on init.
+     *
+     * @return a cipher for exclusive use by the caller
+     */
+    private @NonNull Cipher borrowCipher() throws GeneralSecurityException {
+        var cipher = cipherPool != null ? cipherPool.poll() : null;
+        if (cipher != null) {
+            return cipher;
+        }
+        return Cipher.getInstance(TRANSFORMATION);
+    }
+
+    private void returnCipher(@NonNull final Cipher cipher) {
+        if (cipherPool != null) {
+            // drops the cipher if the pool is full
+            cipherPool.offer(cipher);
+        }
+    }
+
+    public <T extends Serializable> @Nullable Encrypted<T> encrypt(@Nullable final T value) {
+        if (value == null) {
+            return null;
+        }
         try {
-            byte[] cipherTextBytes = Base64.getDecoder().decode(encrypted);
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            IvParameterSpec iv = new IvParameterSpec(cipherTextBytes, 0, 16);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, iv);
-            byte[] original = cipher.doFinal(cipherTextBytes, 16, cipherTextBytes.length - 16);
-            return new String(original, StandardCharsets.UTF_8);
+            var cipher = borrowCipher();
+            var encrypted = new Encrypted<T>(encryptWithSecretKey(toJson(value), secretKey, cipher));
+            returnCipher(cipher);
+            return encrypted;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    public <T extends Serializable> @Nullable Encrypted<T> encrypt(@Nullable final T value) {
+    /**
+     * Creates a deterministic, keyed hash of the given value, that can be stored next to the encrypted value and be
+     * used for equality lookups without decrypting. The key is derived from the encryption password, so the index has
+     * to be rebuilt when the encryption password is rotated.
+     *
+     * @param value the plain value to index
+     * @return the hex encoded HMAC of the value or null, if the value is null
+     */
+    public @Nullable String blindIndex(@Nullable final String value) {
         if (value == null) {
             return null;
         }
         try {
-            return new Encrypted<>(encryptWithSecretKey(toJson(value), secretKey));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(indexKey);
+            return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -109,7 +181,43 @@ public class EncryptionService {
         if (encrypted == null) {
             return null;
         }
-        var plain = decryptWithSecretKey(encrypted.value(), secretKey);
+        return parse(decryptAll(Collections.singletonList(encrypted)).getFirst(), type);
+    }
+
+    /**
+     * Decrypts multiple values at once, sharing a single cipher for all of them.
+     *
+     * @param encrypted the values to decrypt, may contain null values
+     * @return the plain text of each value in the same order, null for null values
+     */
+    public @NonNull List<@Nullable String> decryptAll(@NonNull final List<? extends @Nullable Encrypted<?>> encrypted) {
+        var plain = new ArrayList<@Nullable String>(encrypted.size());
+        try {
+            var cipher = borrowCipher();
+            for (final Encrypted<?> value : encrypted) {
+                plain.add(value != null ? decryptWithSecretKey(value.value(), secretKey, cipher) : null);
+            }
+            returnCipher(cipher);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return plain;
+    }
+
+    /**
+     * Returns a decrypt function, that decrypts all values of a type at once with {@link #decryptAll(List)} when used
+     * with {@link DecryptFunc#applyAll(List, Class)}.
+     *
+     * @return the bulk decrypt function of this service
+     */
+    public @NonNull DecryptFunc decryptFunc() {
+        return bulkDecryptFunc;
+    }
+
+    private <T> @Nullable T parse(@Nullable final String plain, @NonNull final Class<? extends T> type) {
+        if (plain == null) {
+            return null;
+        }
         try {
             return jsonMapper.readValue(plain, type);
         } catch (Exception _) {
@@ -130,4 +238,26 @@ public class EncryptionService {
             return jsonMapper.writeValueAsString(value);
         }
     }
+
+    private record BulkDecryptFunc(@NonNull EncryptionService encryptionService) implements DecryptFunc {
+        @Override
+        public <T extends Serializable> @Nullable T apply(
+            @Nullable final Encrypted<T> encrypted,
+            @NonNull final Class<T> clazz
+        ) {
+            return encryptionService.decrypt(encrypted, clazz);
+        }
+
+        @Override
+        public <T extends Serializable> @NonNull List<@Nullable T> applyAll(
+            @NonNull final List<@Nullable Encrypted<T>> encrypted,
+            @NonNull final Class<T> clazz
+        ) {
+            var decrypted = new ArrayList<@Nullable T>(encrypted.size());
+            for (final String plain : encryptionService.decryptAll(encrypted)) {
+                decrypted.add(encryptionService.parse(plain, clazz));
+            }
+            return decrypted;
+        }
+    }
 }
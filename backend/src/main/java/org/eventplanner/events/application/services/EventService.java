@@ -1,23 +1,44 @@
 package org.eventplanner.events.application.services;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.eventplanner.events.application.ports.EventRepository;
 import org.eventplanner.events.domain.entities.events.Event;
 import org.eventplanner.events.domain.entities.users.SignedInUser;
+import org.eventplanner.events.domain.values.auth.AccessKey;
+import org.eventplanner.events.domain.values.auth.Permission;
+import org.eventplanner.events.domain.values.auth.Role;
 import org.eventplanner.events.domain.values.events.EventKey;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EventService {
     private final EventRepository eventRepository;
+    // salts the event tags, so that clients cannot compute them for events they are not allowed to see
+    private final byte[] tagSecret;
+
+    public EventService(
+        @NonNull @Autowired final EventRepository eventRepository,
+        @NonNull @Value("${events.tag-secret}") final String tagSecret
+    ) {
+        this.eventRepository = eventRepository;
+        this.tagSecret = tagSecret.getBytes(StandardCharsets.UTF_8);
+    }
 
     public @NonNull List<Event> getEvents(
         @NonNull final SignedInUser signedInUser,
@@ -47,4 +68,66 @@ public class EventService {
             })
             .orElseThrow(() -> new NoSuchElementException("Event with key " + key + " does not exist"));
     }
+
+    /**
+     * Returns a tag for the events of the given year as returned by {@link #getEvents(SignedInUser, int)}. The tag
+     * changes whenever one of the events or its registrations changes. As the events are filtered for the signed-in
+     * user, the tag also depends on the user, their roles and their effective permissions, which are restricted when
+     * signed in with an access key.
+     *
+     * @param signedInUser the user reading the events
+     * @param year         the year of the events
+     * @return a tag identifying the current state of the events
+     */
+    public @NonNull String getEventsTag(
+        @NonNull final SignedInUser signedInUser,
+        final int year
+    ) {
+        var revisions = eventRepository.findRevisionsByYear(year).entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.comparing(EventKey::value)))
+            .map(revision -> revision.getKey().value() + ":" + revision.getValue());
+        return createTag(signedInUser, revisions);
+    }
+
+    /**
+     * Returns a tag for the event as returned by {@link #getEvent(SignedInUser, EventKey)}, or an empty optional if
+     * the event does not exist.
+     *
+     * @param signedInUser the user reading the event
+     * @param key          the key of the event
+     * @return a tag identifying the current state of the event
+     */
+    public @NonNull Optional<String> getEventTag(
+        @NonNull final SignedInUser signedInUser,
+        @NonNull final EventKey key
+    ) {
+        return eventRepository.findRevisionByKey(key)
+            .map(revision -> createTag(signedInUser, Stream.of(key.value() + ":" + revision)));
+    }
+
+    private @NonNull String createTag(
+        @NonNull final SignedInUser signedInUser,
+        @NonNull final Stream<String> revisions
+    ) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(tagSecret);
+            digest.update(signedInUser.key().value().getBytes(StandardCharsets.UTF_8));
+            if (signedInUser.authentication() instanceof AccessKey) {
+                digest.update("|access-key".getBytes(StandardCharsets.UTF_8));
+            }
+            signedInUser.roles().stream()
+                .map(Role::value)
+                .sorted()
+                .forEach(role -> digest.update(("|" + role).getBytes(StandardCharsets.UTF_8)));
+            signedInUser.permissions().stream()
+                .map(Permission::name)
+                .sorted()
+                .forEach(permission -> digest.update(("|" + permission).getBytes(StandardCharsets.UTF_8)));
+            revisions.forEach(revision -> digest.update(("|" + revision).getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package org.eventplanner.events.application.services;
+
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eventplanner.common.TransactionHooks;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders and dispatches notifications on virtual threads, so that the request that triggered a notification does not
+ * have to wait for templates to be rendered and emails to be queued. Notifications triggered within a transaction are
+ * only submitted after the transaction was committed, so that a rolled back change does not notify anyone. The number
+ * of notifications dispatched in parallel and the number of waiting notifications are bounded. When the queue is full,
+ * the submitting thread dispatches the notification itself instead of dropping it. It does so in a new transaction,
+ * because the committed transaction is still bound to the thread while its after commit hooks run, and any writes
+ * joining it would be lost. Pending notifications are dispatched before the application shuts down.
+ */
+@Slf4j
+@Component
+public class NotificationExecutor {
+
+    private final boolean async;
+    private final Duration shutdownTimeout;
+    private final ThreadPoolExecutor executor;
+    private final Counter overflows;
+    private final Timer timer;
+    private final TransactionTemplate overflowTransaction;
+
+    public NotificationExecutor(
+        @Value("${notifications.dispatch.async}") final boolean async,
+        @Value("${notifications.dispatch.max-concurrency}") final int maxConcurrency,
+        @Value("${notifications.dispatch.queue-capacity}") final int queueCapacity,
+        @NonNull @Value("${notifications.dispatch.shutdown-timeout}") final Duration shutdownTimeout,
+        @NonNull @Autowired final MeterRegistry meterRegistry,
+        @NonNull @Autowired final PlatformTransactionManager transactionManager
+    ) {
+        this.async = async;
+        this.shutdownTimeout = shutdownTimeout;
+        this.overflowTransaction = new TransactionTemplate(transactionManager);
+        this.overflowTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        var concurrency = Math.max(1, maxConcurrency);
+        this.executor = new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+            Thread.ofVirtual().name("notifications-", 0).factory(),
+            (task, _) -> runOnCaller(task)
+        );
+        this.overflows = Counter.builder("notifications.dispatch.overflows")
+            .description("Number of notifications dispatched on the submitting thread, because the queue was full")
+            .register(meterRegistry);
+        this.timer = Timer.builder("notifications.dispatch")
+            .description("Time taken to render and dispatch a notification")
+            .register(meterRegistry);
+        Gauge.builder("notifications.dispatch.queue.size", executor, it -> it.getQueue().size())
+            .description("Number of notifications waiting to be dispatched")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Submits the given notification task. Within a transaction the task is submitted after the transaction was
+     * committed and dropped if it was rolled back. If asynchronous dispatch is disabled, the task runs right away on
+     * the calling thread.
+     *
+     * @param task renders and dispatches a notification
+     */
+    public void submit(@NonNull final Runnable task) {
+        Runnable timedTask = () -> timer.record(task);
+        if (!async) {
+            timedTask.run();
+        } else {
+            TransactionHooks.afterCommit(() -> execute(timedTask));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn(
+                    "Dropping {} notifications that could not be dispatched before shutdown",
+                    executor.shutdownNow().size()
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(@NonNull final Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (Exception e) {
+            log.error("Failed to submit notification", e);
+        }
+    }
+
+    private void runOnCaller(@NonNull final Runnable task) {
+        overflows.increment();
+        log.warn("Notification queue is full, dispatching notification on the submitting thread");
+        overflowTransaction.executeWithoutResult(_ -> task.run());
+    }
+}
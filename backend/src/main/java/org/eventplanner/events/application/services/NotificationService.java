@@ -3,8 +3,6 @@ package org.eventplanner.events.application.services;
 import static java.util.Optional.ofNullable;
 
 import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -30,8 +28,6 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
-import freemarker.template.Configuration;
-import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,10 +38,11 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationService {
     private static final ZoneId timezone = ZoneId.of("Europe/Berlin");
 
-    private final Configuration freeMarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final AuthenticationService authenticationService;
     private final ConfigurationService configurationService;
     private final List<NotificationDispatcher> notificationDispatchers;
+    private final NotificationExecutor notificationExecutor;
 
     public void sendAddedToWaitingListNotification(
         @Nullable final UserDetails to,
@@ -356,20 +353,23 @@ public class NotificationService {
         @NonNull final HashMap<String, Object> props,
         @Nullable final String link
     ) {
-        try {
-            // add some default props
-            props.put("title", title);
-            props.put("app_link", configurationService.getConfig().frontend().url());
+        // add some default props
+        props.put("title", title);
+        props.put("app_link", configurationService.getConfig().frontend().url());
 
-            var content = renderContent(type, props);
-            var summary = renderSummary(type, props);
-            var notification = new GlobalNotification(to, type, title, summary, content, link);
+        var snapshot = snapshot(props);
+        notificationExecutor.submit(() -> {
+            try {
+                var content = renderContent(type, snapshot);
+                var summary = renderSummary(type, snapshot);
+                var notification = new GlobalNotification(to, type, title, summary, content, link);
 
-            log.debug("Dispatching {} global notification for users with role {}", type, to);
-            dispatch(notification);
-        } catch (Exception e) {
-            log.error("Failed role create global '{}' notification for users with role {}", type, to, e);
-        }
+                log.debug("Dispatching {} global notification for users with role {}", type, to);
+                dispatch(notification);
+            } catch (Exception e) {
+                log.error("Failed role create global '{}' notification for users with role {}", type, to, e);
+            }
+        });
     }
 
     private void createNotification(
@@ -386,25 +386,48 @@ public class NotificationService {
         if (to == null) {
             return;
         }
-        try {
-            // add some default props
-            props.put("title", title);
-            props.put("user", to);
-            if (link != null) {
-                props.put("app_link", link);
-            } else {
-                props.put("app_link", configurationService.getConfig().frontend().url());
-            }
+        // add some default props
+        props.put("title", title);
+        props.put("user", to);
+        if (link != null) {
+            props.put("app_link", link);
+        } else {
+            props.put("app_link", configurationService.getConfig().frontend().url());
+        }
 
-            var content = renderContent(type, props);
-            var summary = renderSummary(type, props);
-            var notification = new PersonalNotification(to, type, title, summary, content, link);
+        var snapshot = snapshot(props);
+        var recipient = (UserDetails) snapshot.get("user");
+        notificationExecutor.submit(() -> {
+            try {
+                var content = renderContent(type, snapshot);
+                var summary = renderSummary(type, snapshot);
+                var notification = new PersonalNotification(recipient, type, title, summary, content, link);
 
-            log.debug("Dispatching {} notification for user {}", type, to.getKey());
-            dispatch(notification);
-        } catch (Exception e) {
-            log.error("Failed to create '{}' notification for user {}", type, to.getKey(), e);
-        }
+                log.debug("Dispatching {} notification for user {}", type, to.getKey());
+                dispatch(notification);
+            } catch (Exception e) {
+                log.error("Failed to create '{}' notification for user {}", type, to.getKey(), e);
+            }
+        });
+    }
+
+    /**
+     * Copies the domain objects in the given props, as notifications are rendered on another thread while the caller
+     * might still change them. The notification then shows the state at the time it was triggered.
+     *
+     * @param props the props of a notification
+     * @return the props with copies of all mutable domain objects
+     */
+    private static @NonNull HashMap<String, Object> snapshot(@NonNull final Map<String, Object> props) {
+        var snapshot = new HashMap<String, Object>(props.size());
+        props.forEach((key, value) -> snapshot.put(key, switch (value) {
+            case Event event -> event.copy();
+            case Registration registration -> registration.copy();
+            case UserDetails user -> user.copy();
+            case Qualification qualification -> qualification.copy();
+            case null, default -> value;
+        }));
+        return snapshot;
     }
 
     private void dispatch(@NonNull final Notification notification) {
@@ -421,7 +444,7 @@ public class NotificationService {
         @NonNull final NotificationType type,
         @NonNull final HashMap<String, Object> props
     ) throws TemplateException, IOException {
-        return renderTemplate("emails/" + type + ".ftl", props).trim();
+        return templateRegistry.render(TemplateRegistry.contentTemplate(type), type, props).trim();
     }
 
     protected @NonNull String renderSummary(
@@ -429,7 +452,7 @@ public class NotificationService {
         @NonNull final HashMap<String, Object> props
     )
     throws TemplateException, IOException {
-        return renderTemplate("notifications/" + type + ".ftl", props).trim();
+        return templateRegistry.render(TemplateRegistry.summaryTemplate(type), type, props).trim();
     }
 
     private @NonNull String createUserDeepLink(@NonNull final UserDetails userDetails) {
@@ -447,14 +470,6 @@ public class NotificationService {
             + "/account?tab=app.account.tab.qualifications";
     }
 
-    private @NonNull String renderTemplate(@NonNull final String template, @NonNull final Object params)
-    throws TemplateException, IOException {
-        Template content = freeMarkerConfig.getTemplate(template);
-        Writer writer = new StringWriter();
-        content.process(params, writer);
-        return writer.toString();
-    }
-
     private @NonNull String formatDate(@NonNull final ZonedDateTime zonedDateTime) {
         return zonedDateTime.format(DateTimeFormatter.ofPattern("dd.MM.yyyy"));
     }
@@ -1,26 +1,96 @@
 package org.eventplanner.events.application.services;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eventplanner.events.domain.entities.notifications.GlobalNotification;
 import org.eventplanner.events.domain.entities.notifications.Notification;
 import org.eventplanner.events.domain.values.notifications.NotificationType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Posts alerts to the configured MS Teams webhook. All alerts share a single http client and are sent asynchronously
+ * with a connect and a request timeout, so that a slow webhook does not block the thread dispatching the notification.
+ * The number of alerts in flight is bounded, alerts exceeding the bound are dropped. Alerts of the same type for the
+ * same link, which is the same event or user, are collected over the coalesce window and posted as a single digest,
+ * so that a burst of registration changes results in a single alert. Collected alerts are posted on shutdown.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TeamsNotificationService implements NotificationDispatcher {
 
     private final ConfigurationService configurationService;
+    private final JsonMapper jsonMapper;
+    private final Duration requestTimeout;
+    private final Duration coalesceWindow;
+    private final HttpClient client;
+    private final Semaphore pending;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock digestLock = new ReentrantLock();
+    private final Map<DigestKey, List<Notification>> digests = new HashMap<>();
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter drops;
+    private final Counter coalesced;
+    private final Timer latency;
+
+    public TeamsNotificationService(
+        @NonNull @Autowired final ConfigurationService configurationService,
+        @NonNull @Autowired final JsonMapper jsonMapper,
+        @NonNull @Value("${notifications.teams.connect-timeout}") final Duration connectTimeout,
+        @NonNull @Value("${notifications.teams.request-timeout}") final Duration requestTimeout,
+        @Value("${notifications.teams.max-pending}") final int maxPending,
+        @NonNull @Value("${notifications.teams.coalesce-window}") final Duration coalesceWindow,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        this.configurationService = configurationService;
+        this.jsonMapper = jsonMapper;
+        this.requestTimeout = requestTimeout;
+        this.coalesceWindow = coalesceWindow;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build();
+        this.pending = new Semaphore(Math.max(1, maxPending));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("teams-digest").factory()
+        );
+        this.successes = createCounter(meterRegistry, "success");
+        this.failures = createCounter(meterRegistry, "failure");
+        this.drops = createCounter(meterRegistry, "dropped");
+        this.coalesced = Counter.builder("notifications.teams.coalesced")
+            .description("Number of MS Teams alerts merged into the digest of a previous alert")
+            .register(meterRegistry);
+        this.latency = Timer.builder("notifications.teams.latency")
+            .description("Time taken by the MS Teams webhook to respond")
+            .register(meterRegistry);
+    }
 
     @Override
     public void dispatch(@NonNull final Notification notification) {
@@ -38,43 +108,161 @@ public class TeamsNotificationService implements NotificationDispatcher {
                 var uri = URI.create(teamsUrl);
                 switch (notification.type()) {
                     case NotificationType.USER_DATA_CHANGED, NotificationType.CREW_REGISTRATION_CANCELED,
-                         NotificationType.CREW_REGISTRATION_ADDED -> createTeamsAlert(uri, notification);
+                         NotificationType.CREW_REGISTRATION_ADDED -> coalesce(uri, notification);
                     default -> log.debug("Skipping teams notification for {} notification", notification.type());
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error(
-                    "Thread was interrupted while creating MS Teams alert for {} notification",
-                    notification.type(),
-                    e
-                );
             } catch (Exception e) {
                 log.error("Failed to create MS Teams alert for {} notification", notification.type(), e);
             }
         }
     }
 
-    public void createTeamsAlert(@NonNull final URI webhookUri, @NonNull final Notification notification)
-    throws IOException, InterruptedException {
+    /**
+     * Posts an alert for the given notification to the given webhook without waiting for the response.
+     *
+     * @param webhookUri   the MS Teams webhook
+     * @param notification the notification to alert
+     * @return completes with true once the webhook accepted the alert, or with false if it failed or was dropped
+     */
+    public @NonNull CompletableFuture<Boolean> createTeamsAlert(
+        @NonNull final URI webhookUri,
+        @NonNull final Notification notification
+    ) {
         log.info("Creating MS Teams alert for {} notification", notification.type());
-        var body = renderDefaultTeamsMessage(notification);
+        return send(
+            webhookUri,
+            notification.type(),
+            renderDefaultTeamsMessage(notification.summary(), notification.link())
+        );
+    }
+
+    @PreDestroy
+    public void close() {
+        // alerts coalesced after the scheduler was stopped are posted right away
+        scheduler.shutdownNow();
+        flushAll();
+        // waits for the alerts in flight, which are bounded by the request timeout
+        client.close();
+    }
+
+    /**
+     * Posts all collected alerts without waiting for the end of their coalesce window.
+     */
+    public void flushAll() {
+        List<DigestKey> keys;
+        digestLock.lock();
+        try {
+            keys = List.copyOf(digests.keySet());
+        } finally {
+            digestLock.unlock();
+        }
+        keys.forEach(this::flush);
+    }
+
+    private void coalesce(@NonNull final URI webhookUri, @NonNull final Notification notification) {
+        if (!coalesceWindow.isPositive()) {
+            createTeamsAlert(webhookUri, notification);
+            return;
+        }
+        var key = new DigestKey(webhookUri, notification.type(), notification.link());
+        digestLock.lock();
+        try {
+            var digest = digests.get(key);
+            if (digest != null) {
+                digest.add(notification);
+                coalesced.increment();
+                return;
+            }
+            digests.put(key, new ArrayList<>(List.of(notification)));
+        } finally {
+            digestLock.unlock();
+        }
+        try {
+            scheduler.schedule(() -> flush(key), coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(key);
+        }
+    }
+
+    private void flush(@NonNull final DigestKey key) {
+        List<Notification> digest;
+        digestLock.lock();
+        try {
+            digest = digests.remove(key);
+        } finally {
+            digestLock.unlock();
+        }
+        if (digest == null) {
+            return;
+        }
+        if (digest.size() == 1) {
+            createTeamsAlert(key.webhookUri(), digest.getFirst());
+            return;
+        }
+        log.info("Creating MS Teams digest of {} alerts for {} notification", digest.size(), key.type());
+        // a blank line separates the summaries
+        var text = String.join("\n\n", digest.stream().map(Notification::summary).toList());
+        send(key.webhookUri(), key.type(), renderDefaultTeamsMessage(text, key.link()));
+    }
+
+    private @NonNull CompletableFuture<Boolean> send(
+        @NonNull final URI webhookUri,
+        @NonNull final NotificationType type,
+        @NonNull final String body
+    ) {
+        if (!pending.tryAcquire()) {
+            drops.increment();
+            log.warn("Dropping MS Teams alert for {} notification, because too many alerts are pending", type);
+            return CompletableFuture.completedFuture(false);
+        }
         var request = HttpRequest.newBuilder()
             .method("POST", HttpRequest.BodyPublishers.ofString(body))
+            .header("Content-Type", "application/json")
             .uri(webhookUri)
+            .timeout(requestTimeout)
             .build();
-        try (var client = HttpClient.newBuilder().build()) {
-            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() != 200) {
-                log.error(
-                    "Failed to create MS Teams alert for {} notification. Webhook failed with status code {}",
-                    notification.type(),
-                    response.statusCode()
-                );
-            }
+        var sample = Timer.start();
+        try {
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    pending.release();
+                    sample.stop(latency);
+                    if (e != null) {
+                        failures.increment();
+                        log.error("Failed to create MS Teams alert for {} notification", type, e);
+                        return false;
+                    }
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        failures.increment();
+                        log.error(
+                            "Failed to create MS Teams alert for {} notification. Webhook failed with status code {}",
+                            type,
+                            response.statusCode()
+                        );
+                        return false;
+                    }
+                    successes.increment();
+                    return true;
+                });
+        } catch (Exception e) {
+            pending.release();
+            failures.increment();
+            log.error("Failed to create MS Teams alert for {} notification", type, e);
+            return CompletableFuture.completedFuture(false);
         }
     }
 
-    private @NonNull String renderDefaultTeamsMessage(@NonNull final Notification notification) {
+    private static @NonNull Counter createCounter(
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final String result
+    ) {
+        return Counter.builder("notifications.teams.alerts")
+            .description("Number of MS Teams alerts by their result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private @NonNull String renderDefaultTeamsMessage(@NonNull final String text, @Nullable final String link) {
         return """
             {
                 "type": "message",
@@ -92,7 +280,7 @@ public class TeamsNotificationService implements NotificationDispatcher {
                                 {
                                     "type": "TextBlock",
                                     "wrap": true,
-                                    "text": "%s"
+                                    "text": %s
                                 }
                             ],
                             "actions": [
@@ -100,16 +288,24 @@ public class TeamsNotificationService implements NotificationDispatcher {
                                     "type": "Action.OpenUrl",
                                     "title": "In Crew App anzeigen",
                                     "tooltip": "In der Crew App anzeigen",
-                                    "url": "%s"
+                                    "url": %s
                                 }
                             ]
                         }
                     }
                 ]
             }
-            """.formatted(
-            notification.summary(),
-            notification.link()
-        );
+            """.formatted(toJson(text), toJson(link));
+    }
+
+    private @NonNull String toJson(@Nullable final String value) {
+        try {
+            return jsonMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write MS Teams alert text as json", e);
+        }
+    }
+
+    private record DigestKey(@NonNull URI webhookUri, @NonNull NotificationType type, @Nullable String link) {
     }
 }
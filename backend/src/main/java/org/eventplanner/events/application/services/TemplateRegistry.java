@@ -0,0 +1,126 @@
+package org.eventplanner.events.application.services;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the parsed notification templates in memory, so that rendering a notification for many recipients does not
+ * look up and check the template for every recipient. All templates of all notification types are loaded on startup.
+ * The output buffer of each render is sized by the largest previous output of the same template, so that it does not
+ * have to grow while rendering.
+ */
+@Slf4j
+@Service
+public class TemplateRegistry {
+
+    public static final String BASE_TEMPLATE = "partials/base.ftl";
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final Configuration freeMarkerConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final Map<String, Integer> outputSizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TemplateRegistry(
+        @NonNull @Autowired final Configuration freeMarkerConfig,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        this.freeMarkerConfig = freeMarkerConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static @NonNull String contentTemplate(@NonNull final NotificationType type) {
+        return "emails/" + type + ".ftl";
+    }
+
+    public static @NonNull String summaryTemplate(@NonNull final NotificationType type) {
+        return "notifications/" + type + ".ftl";
+    }
+
+    /**
+     * Loads the content and summary templates of all notification types and the base template of emails.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        var loaded = 0;
+        for (var type : NotificationType.values()) {
+            loaded += tryLoad(contentTemplate(type)) ? 1 : 0;
+            loaded += tryLoad(summaryTemplate(type)) ? 1 : 0;
+        }
+        loaded += tryLoad(BASE_TEMPLATE) ? 1 : 0;
+        log.info("Loaded {} notification templates", loaded);
+    }
+
+    /**
+     * Renders the given template and records the render time for the given notification type.
+     *
+     * @param template the path of the template
+     * @param type     the notification type the template is rendered for
+     * @param model    the data model of the template
+     * @return the rendered template
+     */
+    public @NonNull String render(
+        @NonNull final String template,
+        @NonNull final NotificationType type,
+        @NonNull final Object model
+    ) throws TemplateException, IOException {
+        var sample = Timer.start(meterRegistry);
+        try {
+            var writer = new StringWriter(outputSizes.getOrDefault(template, DEFAULT_BUFFER_SIZE));
+            getTemplate(template).process(model, writer);
+            var output = writer.toString();
+            outputSizes.merge(template, output.length(), Math::max);
+            return output;
+        } finally {
+            sample.stop(getTimer(template, type));
+        }
+    }
+
+    private @NonNull Template getTemplate(@NonNull final String template) throws IOException {
+        var cached = templates.get(template);
+        if (cached != null) {
+            return cached;
+        }
+        var loaded = freeMarkerConfig.getTemplate(template);
+        templates.put(template, loaded);
+        return loaded;
+    }
+
+    private boolean tryLoad(@NonNull final String template) {
+        try {
+            getTemplate(template);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load notification template {}", template, e);
+            return false;
+        }
+    }
+
+    private @NonNull Timer getTimer(@NonNull final String template, @NonNull final NotificationType type) {
+        return timers.computeIfAbsent(
+            template + ":" + type, _ -> Timer.builder("notifications.render")
+                .description("Time taken to render a notification template")
+                .tag("type", type.toString())
+                .tag("template", template.substring(0, Math.max(0, template.indexOf('/'))))
+                .register(meterRegistry)
+        );
+    }
+}
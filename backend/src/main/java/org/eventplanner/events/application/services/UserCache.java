@@ -0,0 +1,235 @@
+package org.eventplanner.events.application.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.eventplanner.common.TransactionHooks;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.values.auth.Role;
+import org.eventplanner.events.domain.values.users.AuthKey;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an immutable snapshot of all decrypted users in memory, so that reading the user list does not require
+ * decrypting every user again. The snapshot is built on the first read and then updated incrementally by the writes
+ * going through the {@link UserService}. Writes within a transaction are applied after the transaction was committed.
+ * Along with the snapshot, the users are indexed by their roles and auth keys. The cached users must never be modified,
+ * callers are expected to work on copies.
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final int maxSize;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+    private volatile @Nullable Snapshot snapshot;
+
+    public UserCache(
+        @Value("${users.cache.max-size}") final int maxSize,
+        @NonNull @Autowired final MeterRegistry meterRegistry
+    ) {
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("users.cache.hits")
+            .description("Number of user reads served from the cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("users.cache.misses")
+            .description("Number of user reads that could not be served from the cache")
+            .register(meterRegistry);
+        this.rebuilds = Counter.builder("users.cache.rebuilds")
+            .description("Number of times all users were loaded and decrypted to build the cache")
+            .register(meterRegistry);
+        Gauge.builder("users.cache.size", this, UserCache::size)
+            .description("Number of users in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current snapshot of all users, or null if there is none yet.
+     *
+     * @return an unmodifiable map of all users by their key or null
+     */
+    public @Nullable Map<UserKey, UserDetails> getSnapshot() {
+        var current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current.users();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the users of the current snapshot that have the given role, or null if there is no snapshot yet.
+     *
+     * @param role the role to look up
+     * @return an unmodifiable list of the users with the given role or null
+     */
+    public @Nullable List<UserDetails> getUsersByRole(@NonNull final Role role) {
+        var current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current.usersByRole().getOrDefault(role, List.of());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the users of the current snapshot by their auth key, or null if there is no snapshot yet. Users without
+     * an auth key are not contained.
+     *
+     * @return an unmodifiable map of the users by their auth key or null
+     */
+    public @Nullable Map<AuthKey, UserDetails> getUsersByAuthKey() {
+        var current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current.usersByAuthKey();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the current snapshot or builds a new one with the given loader. Concurrent callers wait for a single
+     * rebuild instead of all loading the users. The result is not cached, if there are more users than the configured
+     * maximum size, or if a write happened while loading.
+     *
+     * @param loader loads and decrypts all users
+     * @return an unmodifiable map of all users by their key
+     */
+    public @NonNull Map<UserKey, UserDetails> getOrRebuild(@NonNull final Supplier<List<UserDetails>> loader) {
+        var current = getSnapshot();
+        if (current != null) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            var latest = snapshot;
+            if (latest != null) {
+                return latest.users();
+            }
+            var expectedVersion = version.get();
+            var users = new HashMap<UserKey, UserDetails>();
+            loader.get().forEach(user -> users.put(user.getKey(), user));
+            var rebuilt = Collections.unmodifiableMap(users);
+            rebuilds.increment();
+            if (rebuilt.size() > maxSize) {
+                log.warn("Not caching {} users, as this exceeds the maximum cache size of {}", rebuilt.size(), maxSize);
+                return rebuilt;
+            }
+            writeLock.lock();
+            try {
+                if (version.get() == expectedVersion) {
+                    snapshot = Snapshot.of(rebuilt);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void put(@NonNull final UserDetails user) {
+        update(users -> {
+            var updated = new HashMap<>(users);
+            updated.put(user.getKey(), user);
+            return updated;
+        });
+    }
+
+    public void remove(@NonNull final UserKey key) {
+        update(users -> {
+            var updated = new HashMap<>(users);
+            updated.remove(key);
+            return updated;
+        });
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            version.incrementAndGet();
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int size() {
+        var current = snapshot;
+        return current != null ? current.users().size() : 0;
+    }
+
+    private void update(@NonNull final UnaryOperator<Map<UserKey, UserDetails>> change) {
+        // invalidate running rebuilds right away, they might have read the state before this write
+        version.incrementAndGet();
+        TransactionHooks.afterCommit(() -> apply(change));
+    }
+
+    private void apply(@NonNull final UnaryOperator<Map<UserKey, UserDetails>> change) {
+        writeLock.lock();
+        try {
+            version.incrementAndGet();
+            var current = snapshot;
+            if (current == null) {
+                return;
+            }
+            var updated = change.apply(current.users());
+            snapshot = updated.size() > maxSize ? null : Snapshot.of(Collections.unmodifiableMap(updated));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private record Snapshot(
+        @NonNull Map<UserKey, UserDetails> users,
+        @NonNull Map<Role, List<UserDetails>> usersByRole,
+        @NonNull Map<AuthKey, UserDetails> usersByAuthKey
+    ) {
+        static @NonNull Snapshot of(@NonNull final Map<UserKey, UserDetails> users) {
+            var usersByRole = new EnumMap<Role, List<UserDetails>>(Role.class);
+            users.values().forEach(user -> user.getRoles().stream().distinct().forEach(role ->
+                usersByRole.computeIfAbsent(role, _ -> new ArrayList<>()).add(user)
+            ));
+            usersByRole.replaceAll((_, usersWithRole) -> List.copyOf(usersWithRole));
+            var usersByAuthKey = new HashMap<AuthKey, UserDetails>();
+            users.values().forEach(user -> {
+                var authKey = user.getAuthKey();
+                if (authKey != null) {
+                    usersByAuthKey.putIfAbsent(authKey, user);
+                }
+            });
+            return new Snapshot(
+                users,
+                Collections.unmodifiableMap(usersByRole),
+                Collections.unmodifiableMap(usersByAuthKey)
+            );
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.eventplanner.events.application.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.eventplanner.events.domain.entities.users.EncryptedUserDetails;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.functions.DecryptFunc;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decrypts lists of users in batches on a small dedicated thread pool. Decryption is CPU bound, so the pool should not
+ * be larger than the number of available cores. Running it on its own pool keeps a large user list from blocking
+ * request threads, and a full queue makes the requesting thread decrypt the batch itself instead of queueing up more
+ * work. The same applies once the pool was shut down, so that requests still running during shutdown do not wait for
+ * batches that are never decrypted.
+ */
+@Slf4j
+@Service
+public class UserDecryptionService {
+
+    private final EncryptionService encryptionService;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+    private final Timer timer;
+
+    public UserDecryptionService(
+        @NonNull @Autowired final EncryptionService encryptionService,
+        @NonNull @Autowired final MeterRegistry meterRegistry,
+        @Value("${users.decryption.threads}") final int threads,
+        @Value("${users.decryption.batch-size}") final int batchSize
+    ) {
+        this.encryptionService = encryptionService;
+        this.batchSize = Math.max(1, batchSize);
+        var poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(poolSize * 4),
+            Thread.ofPlatform().name("user-decryption-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timer = Timer.builder("users.decryption")
+            .description("Time taken to decrypt a list of users")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Decrypts all given users. Lists that fit into a single batch are decrypted on the calling thread, larger lists
+     * are split into batches and decrypted in parallel.
+     *
+     * @param users the encrypted users
+     * @return the decrypted users in the same order as the given users
+     */
+    public @NonNull List<UserDetails> decryptAll(@NonNull final List<EncryptedUserDetails> users) {
+        return decryptAll(users, EncryptedUserDetails::decrypt);
+    }
+
+    /**
+     * Decrypts all given users with the given decryption, which may decrypt only a part of each user.
+     *
+     * @param users      the encrypted users
+     * @param decryption decrypts a single user with the given decrypt function
+     * @return the decrypted users in the same order as the given users
+     */
+    public <T> @NonNull List<T> decryptAll(
+        @NonNull final List<EncryptedUserDetails> users,
+        @NonNull final BiFunction<EncryptedUserDetails, DecryptFunc, T> decryption
+    ) {
+        return timer.record(() -> {
+            if (users.size() <= batchSize) {
+                return decryptBatch(users, decryption);
+            }
+            var batches = new ArrayList<Future<List<T>>>();
+            for (int i = 0; i < users.size(); i += batchSize) {
+                var batch = users.subList(i, Math.min(i + batchSize, users.size()));
+                batches.add(submit(batch, decryption));
+            }
+            var result = new ArrayList<T>(users.size());
+            for (var batch : batches) {
+                result.addAll(await(batch));
+            }
+            return result;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // cancel the batches that were not started, so that nobody waits for them
+        executor.shutdownNow().forEach(task -> {
+            if (task instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        });
+    }
+
+    private <T> @NonNull Future<List<T>> submit(
+        @NonNull final List<EncryptedUserDetails> batch,
+        @NonNull final BiFunction<EncryptedUserDetails, DecryptFunc, T> decryption
+    ) {
+        try {
+            return executor.submit(() -> decryptBatch(batch, decryption));
+        } catch (RejectedExecutionException e) {
+            // the queue is full or the pool was shut down
+            return CompletableFuture.completedFuture(decryptBatch(batch, decryption));
+        }
+    }
+
+    private <T> @NonNull List<T> decryptBatch(
+        @NonNull final List<EncryptedUserDetails> batch,
+        @NonNull final BiFunction<EncryptedUserDetails, DecryptFunc, T> decryption
+    ) {
+        var decryptFunc = encryptionService.decryptFunc();
+        return batch.stream()
+            .map(user -> decryption.apply(user, decryptFunc))
+            .toList();
+    }
+
+    private <T> @NonNull List<T> await(@NonNull final Future<List<T>> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while decrypting users", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Decryption of users was canceled on shutdown", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to decrypt users", e.getCause());
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package org.eventplanner.events.application.services;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.eventplanner.events.application.events.UserChangedEvent;
 import org.eventplanner.events.application.ports.QualificationRepository;
 import org.eventplanner.events.application.ports.UserRepository;
 import org.eventplanner.events.domain.entities.qualifications.Qualification;
+import org.eventplanner.events.domain.entities.users.EncryptedUserDetails;
 import org.eventplanner.events.domain.entities.users.User;
 import org.eventplanner.events.domain.entities.users.UserDetails;
 import org.eventplanner.events.domain.values.auth.Role;
@@ -17,6 +21,9 @@ import org.eventplanner.events.domain.values.users.AuthKey;
 import org.eventplanner.events.domain.values.users.UserKey;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -29,27 +36,50 @@ public class UserService {
     private final UserRepository userRepository;
     private final QualificationRepository qualificationRepository;
     private final EncryptionService encryptionService;
+    private final UserCache userCache;
+    private final UserDecryptionService userDecryptionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public @NonNull List<User> getUsers() {
-        var qualificationMap = qualificationRepository.findAll()
-            .stream()
-            .collect(Collectors.toMap(Qualification::getKey, qualification -> qualification));
-
-        return userRepository.findAll().stream()
-            .map(user -> user.decrypt(encryptionService::decrypt))
-            .map(user -> resolvePositionsAndQualificationExpires(user, qualificationMap))
-            .sorted(Comparator.comparing(UserDetails::getFullName))
-            .map(UserDetails::cropToUser)
+        var cachedUsers = userCache.getSnapshot();
+        if (cachedUsers != null) {
+            // cropping to a user doesn't need the resolved positions, so the cached users can be used without copying
+            return cachedUsers.values().stream()
+                .sorted(Comparator.comparing(UserDetails::getFullName))
+                .map(UserDetails::cropToUser)
+                .toList();
+        }
+        // only decrypt the names instead of building the cache, the user list is the most frequent read
+        return userDecryptionService.decryptAll(userRepository.findAll(), EncryptedUserDetails::decryptUser).stream()
+            .sorted(Comparator.comparing(User::getFullName))
             .toList();
     }
 
-    public @NonNull List<UserDetails> getDetailedUsers() {
-        var qualificationMap = qualificationRepository.findAll()
-            .stream()
-            .collect(Collectors.toMap(Qualification::getKey, qualification -> qualification));
+    /**
+     * Returns all users with only the fields required for the user list of admins. Sensitive fields like the address,
+     * the emergency contact or health data are left empty, unless the users are already cached.
+     *
+     * @return the users sorted by their full name
+     */
+    public @NonNull List<UserDetails> getUserList() {
+        var cachedUsers = userCache.getSnapshot();
+        if (cachedUsers == null) {
+            var qualificationMap = getQualificationMap();
+            return userDecryptionService.decryptAll(
+                    userRepository.findAll(),
+                    EncryptedUserDetails::decryptListDetails
+                ).stream()
+                .map(user -> resolvePositionsAndQualificationExpires(user, qualificationMap))
+                .sorted(Comparator.comparing(UserDetails::getFullName))
+                .toList();
+        }
+        return getDetailedUsers();
+    }
 
-        return userRepository.findAll().stream()
-            .map(user -> user.decrypt(encryptionService::decrypt))
+    public @NonNull List<UserDetails> getDetailedUsers() {
+        var qualificationMap = getQualificationMap();
+        return getDecryptedUsers().values().stream()
+            .map(UserDetails::copy)
             .map(user -> resolvePositionsAndQualificationExpires(user, qualificationMap))
             .sorted(Comparator.comparing(UserDetails::getFullName))
             .toList();
@@ -59,8 +89,14 @@ public class UserService {
         if (key == null) {
             return Optional.empty();
         }
+        var cachedUsers = userCache.getSnapshot();
+        if (cachedUsers != null) {
+            return Optional.ofNullable(cachedUsers.get(key))
+                .map(UserDetails::copy)
+                .map(this::resolvePositionsAndQualificationExpires);
+        }
         return userRepository.findByKey(key)
-            .map(user -> user.decrypt(encryptionService::decrypt))
+            .map(user -> user.decrypt(encryptionService.decryptFunc()))
             .map(this::resolvePositionsAndQualificationExpires);
     }
 
@@ -68,8 +104,14 @@ public class UserService {
         if (authKey == null) {
             return Optional.empty();
         }
+        var cachedUsers = userCache.getUsersByAuthKey();
+        if (cachedUsers != null) {
+            return Optional.ofNullable(cachedUsers.get(authKey))
+                .map(UserDetails::copy)
+                .map(this::resolvePositionsAndQualificationExpires);
+        }
         return userRepository.findByAuthKey(authKey)
-            .map(user -> user.decrypt(encryptionService::decrypt))
+            .map(user -> user.decrypt(encryptionService.decryptFunc()))
             .map(this::resolvePositionsAndQualificationExpires);
     }
 
@@ -77,41 +119,106 @@ public class UserService {
         if (email == null) {
             return Optional.empty();
         }
-        return userRepository.findAll().stream()
-            .filter(it -> email.equals(encryptionService.decrypt(it.getEmail())))
-            .map(user -> user.decrypt(encryptionService::decrypt))
-            .map(this::resolvePositionsAndQualificationExpires)
-            .findFirst();
+        var emailIndex = requireNonNull(encryptionService.blindIndex(email));
+        return userRepository.findByEmailIndex(emailIndex)
+            .map(user -> user.decrypt(encryptionService.decryptFunc()))
+            .map(this::resolvePositionsAndQualificationExpires);
     }
 
     public @NonNull UserDetails createUser(@NonNull UserDetails userDetails) {
-        var encrypted = userDetails.encrypt(encryptionService::encrypt);
+        var encrypted = encrypt(userDetails);
         encrypted = userRepository.create(encrypted);
-        return encrypted.decrypt(encryptionService::decrypt);
+        var created = encrypted.decrypt(encryptionService.decryptFunc());
+        userCache.put(created.copy());
+        return created;
     }
 
     public @NonNull UserDetails updateUser(@NonNull UserDetails userDetails) {
-        var encrypted = userDetails.encrypt(encryptionService::encrypt);
+        var encrypted = encrypt(userDetails);
         encrypted = userRepository.update(encrypted);
-        return resolvePositionsAndQualificationExpires(encrypted.decrypt(encryptionService::decrypt));
+        var updated = encrypted.decrypt(encryptionService.decryptFunc());
+        userCache.put(updated.copy());
+        // roles might have changed, signed-in principals of the user must be refreshed on their next request
+        eventPublisher.publishEvent(new UserChangedEvent(updated.getKey()));
+        return resolvePositionsAndQualificationExpires(updated);
     }
 
     public void deleteUser(@NonNull UserKey userKey) {
         // TODO should this be a soft delete?
         userRepository.deleteByKey(userKey);
+        userCache.remove(userKey);
+        eventPublisher.publishEvent(new UserChangedEvent(userKey));
     }
 
+    /**
+     * Returns all users with the given role. Cached users are looked up in the role index of the cache, so that only
+     * the users with the role are copied and resolved.
+     *
+     * @param role the role of the users
+     * @return the users with the given role sorted by their full name
+     */
     public @NonNull List<UserDetails> getUsersByRole(@NonNull Role role) {
-        return getDetailedUsers().stream()
-            .filter(user -> user.getRoles().contains(role))
+        var usersWithRole = userCache.getUsersByRole(role);
+        if (usersWithRole == null) {
+            usersWithRole = getDecryptedUsers().values().stream()
+                .filter(user -> user.getRoles().contains(role))
+                .toList();
+        }
+        var qualificationMap = getQualificationMap();
+        return usersWithRole.stream()
+            .map(UserDetails::copy)
+            .map(user -> resolvePositionsAndQualificationExpires(user, qualificationMap))
+            .sorted(Comparator.comparing(UserDetails::getFullName))
             .toList();
     }
 
+    /**
+     * Users stored before the email index was introduced don't have an index yet and could not be found by email. This
+     * creates the missing indices once on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingEmailIndices() {
+        var usersWithoutIndex = userRepository.findAll().stream()
+            .filter(user -> user.getEmail() != null && user.getEmailIndex() == null)
+            .toList();
+        if (usersWithoutIndex.isEmpty()) {
+            return;
+        }
+        log.info("Creating missing email index for {} users", usersWithoutIndex.size());
+        for (var user : usersWithoutIndex) {
+            try {
+                user.setEmailIndex(encryptionService.blindIndex(encryptionService.decrypt(user.getEmail())));
+                userRepository.update(user);
+            } catch (Exception e) {
+                log.error("Failed to create email index for user {}", user.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns all decrypted users from the cache, building it if required. The returned users are shared and must be
+     * copied before being modified or handed out.
+     *
+     * @return all decrypted users by their key
+     */
+    private @NonNull Map<UserKey, UserDetails> getDecryptedUsers() {
+        return userCache.getOrRebuild(() -> userDecryptionService.decryptAll(userRepository.findAll()));
+    }
+
+    private @NonNull EncryptedUserDetails encrypt(@NonNull UserDetails userDetails) {
+        var encrypted = userDetails.encrypt(encryptionService::encrypt);
+        encrypted.setEmailIndex(encryptionService.blindIndex(userDetails.getEmail()));
+        return encrypted;
+    }
+
     private @NonNull UserDetails resolvePositionsAndQualificationExpires(@NonNull UserDetails userDetails) {
-        var qualificationMap = qualificationRepository.findAll()
+        return resolvePositionsAndQualificationExpires(userDetails, getQualificationMap());
+    }
+
+    private @NonNull Map<QualificationKey, Qualification> getQualificationMap() {
+        return qualificationRepository.findAll()
             .stream()
             .collect(Collectors.toMap(Qualification::getKey, qualification -> qualification));
-        return resolvePositionsAndQualificationExpires(userDetails, qualificationMap);
     }
 
     private @NonNull UserDetails resolvePositionsAndQualificationExpires(
@@ -42,8 +42,13 @@ public class SecretRotationUseCase {
             var encryptionService = new EncryptionService(jsonMapper, newSecret);
             var usersEncryptedWithOldSecret = userRepository.findAll();
             var usersEncryptedWithNewSecret = usersEncryptedWithOldSecret.stream()
-                .map(user -> user.decrypt(decryptionService::decrypt))
-                .map(user -> user.encrypt(encryptionService::encrypt))
+                .map(user -> user.decrypt(decryptionService.decryptFunc()))
+                .map(user -> {
+                    var encrypted = user.encrypt(encryptionService::encrypt);
+                    // the email index is keyed with the encryption secret and must be rotated as well
+                    encrypted.setEmailIndex(encryptionService.blindIndex(user.getEmail()));
+                    return encrypted;
+                })
                 .toList();
             usersEncryptedWithNewSecret.forEach(userRepository::update);
             log.info("Successfully rotated user encryption to new secret");
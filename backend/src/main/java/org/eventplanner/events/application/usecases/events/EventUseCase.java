@@ -1,6 +1,7 @@
 package org.eventplanner.events.application.usecases.events;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eventplanner.events.application.ports.EventRepository;
 import org.eventplanner.events.application.services.AuthenticationService;
@@ -38,6 +39,18 @@ public class EventUseCase {
         return eventService.getEvent(signedInUser, key);
     }
 
+    @PreAuthorize("hasAuthority('events:read')")
+    public @NonNull String getEventsTag(final int year) {
+        var signedInUser = authenticationService.getSignedInUser();
+        return eventService.getEventsTag(signedInUser, year);
+    }
+
+    @PreAuthorize("hasAuthority('events:read')")
+    public @NonNull Optional<String> getEventTag(@NonNull final EventKey key) {
+        var signedInUser = authenticationService.getSignedInUser();
+        return eventService.getEventTag(signedInUser, key);
+    }
+
     @PreAuthorize("hasAuthority('events:create')")
     @Transactional
     public @NonNull Event createEvent(@NonNull final CreateEventSpec spec) {
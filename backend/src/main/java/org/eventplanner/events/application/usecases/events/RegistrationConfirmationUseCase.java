@@ -6,7 +6,7 @@ import java.time.ZonedDateTime;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 
 import org.eventplanner.events.application.ports.EventRepository;
 import org.eventplanner.events.application.services.AuthenticationService;
@@ -44,19 +44,13 @@ public class RegistrationConfirmationUseCase {
 
     @PreAuthorize("hasAuthority('events:send-confirmation-requests')")
     public void sendConfirmationRequests() {
-        var currentYear = Instant.now().atZone(timezone).getYear();
-        var eventsToNotify = Stream.concat(
-                eventRepository.findAllByYear(currentYear + 1).stream(),
-                eventRepository.findAllByYear(currentYear).stream()
-            )
-            .filter(event -> event.getState().equals(EventState.PLANNED))
-            // only events that start in the future within the next 2 weeks
-            .filter(event -> event.getStart().isAfter(Instant.now()))
-            .filter(event -> {
-                var start = event.getStart().atZone(timezone);
-                return start.minusWeeks(2).isBefore(ZonedDateTime.now(timezone));
-            })
-            .toList();
+        // only planned events that start in the future within the next 2 weeks
+        var now = ZonedDateTime.now(timezone);
+        var eventsToNotify = eventRepository.findStartingBetween(
+            now.toInstant(),
+            now.plusWeeks(2).toInstant(),
+            Set.of(EventState.PLANNED)
+        );
         if (eventsToNotify.isEmpty()) {
             log.debug("No events to notify for registration confirmation request");
         } else {
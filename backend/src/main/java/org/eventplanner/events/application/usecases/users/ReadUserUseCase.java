@@ -35,6 +35,12 @@ public class ReadUserUseCase {
         return userService.getDetailedUsers();
     }
 
+    @PreAuthorize("hasAuthority('users:read-details')")
+    public @NonNull List<UserDetails> getUserList() {
+        log.debug("Reading user list with details");
+        return userService.getUserList();
+    }
+
     @PreAuthorize("hasAuthority('users:read-details')")
     public @NonNull Optional<UserDetails> getUserByKey(@NonNull final UserKey key) {
         log.debug("Reading details of user {}", key);
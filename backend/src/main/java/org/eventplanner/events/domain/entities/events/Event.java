@@ -215,4 +215,15 @@ public class Event {
             log.info("Optimized slots by moving {} assignments on event {}", counter, key);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a deep copy of this event, that can be modified without affecting this instance.
+     *
+     * @return a copy of this event
+     */
+    public @NonNull Event copy() {
+        return withLocations(List.copyOf(locations))
+            .withSlots(slots.stream().map(EventSlot::copy).toList())
+            .withRegistrations(registrations.stream().map(Registration::copy).toList());
+    }
+}
@@ -54,4 +54,13 @@ public class EventSlot {
         this.criticality = 1;
         return this;
     }
+
+    /**
+     * Creates a copy of this slot, that can be modified without affecting this instance.
+     *
+     * @return a copy of this slot
+     */
+    public @NonNull EventSlot copy() {
+        return withPositions(new LinkedList<>(positions));
+    }
 }
@@ -33,4 +33,13 @@ public class Registration {
     private @Nullable Instant confirmedAt;
     private @Nullable Boolean overnightStay;
     private @Nullable LocalDate arrival;
+
+    /**
+     * Creates a copy of this registration, that can be modified without affecting this instance.
+     *
+     * @return a copy of this registration
+     */
+    public @NonNull Registration copy() {
+        return new Registration(key, position, userKey, name, note, confirmedAt, overnightStay, arrival);
+    }
 }
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.eventplanner.events.domain.values.notifications.NotificationType;
 import org.eventplanner.events.domain.values.users.UserKey;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -29,6 +30,8 @@ public class QueuedEmail {
     private final @NonNull String body;
     private int retries;
     private @NonNull Instant createdAt;
+    // identifies the lease of the sender that claimed this email, null if it was not claimed
+    private @Nullable String leaseToken;
 
     public QueuedEmail(
         @NonNull NotificationType type,
@@ -45,5 +48,19 @@ public class QueuedEmail {
         this.body = body;
         this.createdAt = Instant.now();
         this.retries = 0;
+        this.leaseToken = null;
+    }
+
+    public QueuedEmail(
+        @NonNull String key,
+        @NonNull NotificationType type,
+        @NonNull String to,
+        @NonNull UserKey userKey,
+        @NonNull String subject,
+        @NonNull String body,
+        int retries,
+        @NonNull Instant createdAt
+    ) {
+        this(key, type, to, userKey, subject, body, retries, createdAt, null);
     }
 }
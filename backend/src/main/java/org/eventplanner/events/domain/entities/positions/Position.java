@@ -20,4 +20,13 @@ public class Position {
     @NonNull String color;
     int priority;
     @NonNull String imoListRank;
+
+    /**
+     * Creates a copy of this position, that can be modified without affecting this instance.
+     *
+     * @return a copy of this position
+     */
+    public @NonNull Position copy() {
+        return new Position(key, name, color, priority, imoListRank);
+    }
 }
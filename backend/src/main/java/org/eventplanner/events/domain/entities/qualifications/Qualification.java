@@ -37,4 +37,13 @@ public class Qualification implements Serializable {
     public boolean getExpires() {
         return expires;
     }
+
+    /**
+     * Creates a copy of this qualification, that can be modified without affecting this instance.
+     *
+     * @return a copy of this qualification
+     */
+    public @NonNull Qualification copy() {
+        return new Qualification(key, name, icon, description, expires, List.copyOf(grantsPositions));
+    }
 }
@@ -5,6 +5,7 @@ import static java.util.Optional.ofNullable;
 import java.io.Serializable;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -61,8 +62,17 @@ public class EncryptedUserDetails implements Serializable {
     private @Nullable Encrypted<String> intolerances;
     private @Nullable Encrypted<String> medication;
     private @Nullable Encrypted<Diet> diet;
+    private @Nullable String emailIndex;
 
     public @NonNull UserDetails decrypt(@NonNull DecryptFunc decryptFunc) {
+        // decrypt all string values in a single call, so the decrypt function can process them in bulk
+        var strings = decryptFunc.applyAll(
+            Arrays.asList(
+                gender, title, firstName, nickName, secondName, lastName, email, phone, phoneWork, mobile,
+                placeOfBirth, passNr, comment, nationality, diseases, intolerances, medication
+            ),
+            String.class
+        );
         return new UserDetails(
             key,
             authKey,
@@ -70,38 +80,100 @@ public class EncryptedUserDetails implements Serializable {
             updatedAt,
             verifiedAt,
             lastLoginAt,
-            decryptFunc.apply(gender, String.class),
-            decryptFunc.apply(title, String.class),
-            ofNullable(decryptFunc.apply(firstName, String.class)).orElse(""),
-            decryptFunc.apply(nickName, String.class),
-            decryptFunc.apply(secondName, String.class),
-            ofNullable(decryptFunc.apply(lastName, String.class)).orElse(""),
+            strings.get(0),
+            strings.get(1),
+            ofNullable(strings.get(2)).orElse(""),
+            strings.get(3),
+            strings.get(4),
+            ofNullable(strings.get(5)).orElse(""),
             Collections.emptyList(),
-            roles.stream()
-                .map(r -> decryptFunc.apply(r, Role.class))
-                .toList(),
+            decryptFunc.applyAll(roles, Role.class),
             qualifications.stream()
                 .map(q -> q.decrypt(decryptFunc))
                 .toList(),
             ofNullable(address)
                 .map(a -> a.decrypt(decryptFunc))
                 .orElse(null),
-            decryptFunc.apply(email, String.class),
-            decryptFunc.apply(phone, String.class),
-            decryptFunc.apply(phoneWork, String.class),
-            decryptFunc.apply(mobile, String.class),
+            strings.get(6),
+            strings.get(7),
+            strings.get(8),
+            strings.get(9),
             decryptFunc.apply(dateOfBirth, LocalDate.class),
-            decryptFunc.apply(placeOfBirth, String.class),
-            decryptFunc.apply(passNr, String.class),
-            decryptFunc.apply(comment, String.class),
-            decryptFunc.apply(nationality, String.class),
+            strings.get(10),
+            strings.get(11),
+            strings.get(12),
+            strings.get(13),
             ofNullable(emergencyContact)
                 .map(e -> e.decrypt(decryptFunc))
                 .orElse(null),
-            decryptFunc.apply(diseases, String.class),
-            decryptFunc.apply(intolerances, String.class),
-            decryptFunc.apply(medication, String.class),
+            strings.get(14),
+            strings.get(15),
+            strings.get(16),
             decryptFunc.apply(diet, Diet.class)
         );
     }
+
+    /**
+     * Decrypts only the names and the email of this user, as required for a {@link User}. All other fields are not
+     * decrypted at all.
+     *
+     * @param decryptFunc the function to decrypt the fields with
+     * @return the decrypted user
+     */
+    public @NonNull User decryptUser(@NonNull DecryptFunc decryptFunc) {
+        var strings = decryptFunc.applyAll(Arrays.asList(firstName, nickName, lastName, email), String.class);
+        return new User(
+            key,
+            ofNullable(strings.get(0)).orElse(""),
+            ofNullable(strings.get(2)).orElse(""),
+            strings.get(1),
+            UserDetails.hashEmail(strings.get(3))
+        );
+    }
+
+    /**
+     * Decrypts only the fields shown in user lists: names, email, roles and qualifications. The address, contact
+     * details, emergency contact, passport and health data stay encrypted and are left empty in the result, so the
+     * returned user details must not be used for anything else than list views.
+     *
+     * @param decryptFunc the function to decrypt the fields with
+     * @return the partially decrypted user details
+     */
+    public @NonNull UserDetails decryptListDetails(@NonNull DecryptFunc decryptFunc) {
+        var strings = decryptFunc.applyAll(Arrays.asList(firstName, nickName, lastName, email), String.class);
+        return new UserDetails(
+            key,
+            authKey,
+            createdAt,
+            updatedAt,
+            verifiedAt,
+            lastLoginAt,
+            null,
+            null,
+            ofNullable(strings.get(0)).orElse(""),
+            strings.get(1),
+            null,
+            ofNullable(strings.get(2)).orElse(""),
+            Collections.emptyList(),
+            decryptFunc.applyAll(roles, Role.class),
+            qualifications.stream()
+                .map(q -> q.decrypt(decryptFunc))
+                .toList(),
+            null,
+            strings.get(3),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
 }
@@ -3,8 +3,13 @@ package org.eventplanner.events.domain.entities.users;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eventplanner.events.domain.exceptions.MissingPermissionException;
@@ -40,18 +45,24 @@ public record SignedInUser(
     @NonNull AuthenticatedPrincipal authentication
 ) implements Authentication {
 
-    private static final List<Permission> WHITELISTED_PERMISSIONS_FOR_ACCESS_KEY_AUTH = List.of(
+    private static final Set<Permission> WHITELISTED_PERMISSIONS_FOR_ACCESS_KEY_AUTH = EnumSet.of(
         Permission.READ_ACCOUNT,
         Permission.READ_EVENTS,
         Permission.CONFIRM_OWN_REGISTRATIONS,
         Permission.DECLINE_OWN_REGISTRATIONS
     );
 
+    /**
+     * The permissions of each combination of roles and authentication type, which there are only a few of. They are
+     * computed once and shared by all signed-in users, so that permission checks do not have to go through all roles.
+     */
+    private static final Map<PermissionsKey, Permissions> PERMISSIONS = new ConcurrentHashMap<>();
+
     public static @NonNull SignedInUser fromUser(
         @NonNull UserDetails user,
         @NonNull AuthenticatedPrincipal authentication
     ) {
-        return new SignedInUser(
+        var signedInUser = new SignedInUser(
             user.getKey(),
             Optional.ofNullable(user.getAuthKey()).orElse(new AuthKey("")),
             user.getRoles().isEmpty() ? List.of(Role.NONE) : user.getRoles(),
@@ -64,20 +75,17 @@ public record SignedInUser(
             Instant.now(),
             authentication
         );
+        // compute the permissions of new role combinations on sign in instead of on the first permission check
+        signedInUser.resolvePermissions();
+        return signedInUser;
     }
 
     public @NonNull List<Permission> permissions() {
-        var permissions = roles().stream()
-            .flatMap(Role::getPermissions)
-            .distinct();
-        if (authentication instanceof AccessKey) {
-            permissions = permissions.filter(WHITELISTED_PERMISSIONS_FOR_ACCESS_KEY_AUTH::contains);
-        }
-        return permissions.toList();
+        return resolvePermissions().list();
     }
 
     public boolean hasPermission(@NonNull Permission permission) {
-        return permissions().contains(permission);
+        return resolvePermissions().set().contains(permission);
     }
 
     public void assertHasPermission(@NonNull Permission permission)
@@ -135,4 +143,32 @@ public record SignedInUser(
     public @NonNull String getName() {
         return firstName() + " " + lastName();
     }
+
+    private @NonNull Permissions resolvePermissions() {
+        var key = new PermissionsKey(roles, authentication instanceof AccessKey);
+        var permissions = PERMISSIONS.get(key);
+        if (permissions == null) {
+            permissions = Permissions.of(key);
+            // the roles of a user might be mutable, the shared key must not change
+            PERMISSIONS.putIfAbsent(new PermissionsKey(List.copyOf(roles), key.accessKey()), permissions);
+        }
+        return permissions;
+    }
+
+    private record PermissionsKey(@NonNull List<Role> roles, boolean accessKey) {
+    }
+
+    private record Permissions(@NonNull Set<Permission> set, @NonNull List<Permission> list) {
+        static @NonNull Permissions of(@NonNull final PermissionsKey key) {
+            var permissions = key.roles().stream()
+                .flatMap(Role::getPermissions)
+                .distinct();
+            if (key.accessKey()) {
+                permissions = permissions.filter(WHITELISTED_PERMISSIONS_FOR_ACCESS_KEY_AUTH::contains);
+            }
+            var list = permissions.toList();
+            var set = list.isEmpty() ? EnumSet.noneOf(Permission.class) : EnumSet.copyOf(list);
+            return new Permissions(Collections.unmodifiableSet(set), list);
+        }
+    }
 }
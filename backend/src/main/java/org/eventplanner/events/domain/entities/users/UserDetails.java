@@ -103,6 +103,14 @@ public class UserDetails {
     }
 
     public @Nullable String getEmailHash() {
+        return hashEmail(email);
+    }
+
+    public @NonNull User cropToUser() {
+        return new User(key, firstName, lastName, nickName, getEmailHash());
+    }
+
+    public static @Nullable String hashEmail(@Nullable String email) {
         if (email == null || email.isEmpty()) {
             return null;
         }
@@ -120,10 +128,6 @@ public class UserDetails {
         }
     }
 
-    public @NonNull User cropToUser() {
-        return new User(key, firstName, lastName, nickName, getEmailHash());
-    }
-
     public void addPosition(@NonNull PositionKey positionKey) {
         if (!positions.contains(positionKey)) {
             var mutableList = new LinkedList<>(positions);
@@ -210,6 +214,27 @@ public class UserDetails {
         return findQualification(new QualificationKey(qualificationKey)).orElse(null);
     }
 
+    /**
+     * Creates a copy of this user, that can be modified without affecting this instance.
+     *
+     * @return a copy of this user
+     */
+    public @NonNull UserDetails copy() {
+        return withPositions(new LinkedList<>(positions))
+            .withRoles(new LinkedList<>(roles))
+            .withQualifications(qualifications.stream()
+                .map(q -> new UserQualification(
+                    q.getQualificationKey(),
+                    q.getExpiresAt(),
+                    q.getExpires(),
+                    q.getState()
+                ))
+                .toList())
+            .withEmergencyContact(ofNullable(emergencyContact)
+                .map(e -> new EmergencyContact(e.getName(), e.getPhone()))
+                .orElse(null));
+    }
+
     public @NonNull EncryptedUserDetails encrypt(@NonNull final EncryptFunc encryptFunc) {
         return new EncryptedUserDetails(
             getKey(),
@@ -246,7 +271,9 @@ public class UserDetails {
             encryptFunc.apply(diseases),
             encryptFunc.apply(intolerances),
             encryptFunc.apply(medication),
-            encryptFunc.apply(diet)
+            encryptFunc.apply(diet),
+            // the email index is a keyed hash and cannot be created by the encrypt function
+            null
         );
     }
 }
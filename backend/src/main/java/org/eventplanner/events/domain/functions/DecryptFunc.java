@@ -1,6 +1,7 @@
 package org.eventplanner.events.domain.functions;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.eventplanner.common.Encrypted;
 import org.jspecify.annotations.NonNull;
@@ -9,4 +10,21 @@ import org.jspecify.annotations.Nullable;
 @FunctionalInterface
 public interface DecryptFunc {
     <T extends Serializable> @Nullable T apply(@Nullable Encrypted<T> encrypted, @NonNull Class<T> clazz);
+
+    /**
+     * Decrypts multiple values of the same type. Implementations may override this to decrypt all values at once,
+     * by default the values are decrypted one by one.
+     *
+     * @param encrypted the values to decrypt, may contain null values
+     * @param clazz     the type of the values
+     * @return the decrypted values in the same order
+     */
+    default <T extends Serializable> @NonNull List<@Nullable T> applyAll(
+        @NonNull List<@Nullable Encrypted<T>> encrypted,
+        @NonNull Class<T> clazz
+    ) {
+        return encrypted.stream()
+            .map(value -> apply(value, clazz))
+            .toList();
+    }
 }
@@ -29,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -47,7 +48,8 @@ public class EventController {
     @GetMapping("")
     public ResponseEntity<?> getEvents(
         @RequestHeader(HttpHeaders.ACCEPT) String accept,
-        @RequestParam("year") int year
+        @RequestParam("year") int year,
+        WebRequest request
     ) {
         if (accept.equals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")) {
             var stream = eventExportUseCase.exportEventMatrix(year);
@@ -59,17 +61,34 @@ public class EventController {
                 .body(resource);
         }
 
+        // answer unchanged events before loading and serializing them
+        var eTag = eventUseCase.getEventsTag(year);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         var events = eventUseCase.getEvents(year)
             .stream()
             .map(EventRepresentation::fromDomain)
             .toList();
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok().eTag(eTag).body(events);
     }
 
     @GetMapping("/{eventKey}")
-    public ResponseEntity<EventRepresentation> getEventByKey(@PathVariable String eventKey) {
-        var event = eventUseCase.getEventByKey(new EventKey(eventKey));
-        return ResponseEntity.ok(EventRepresentation.fromDomain(event));
+    public ResponseEntity<EventRepresentation> getEventByKey(
+        @PathVariable String eventKey,
+        WebRequest request
+    ) {
+        var key = new EventKey(eventKey);
+        var eTag = eventUseCase.getEventTag(key).orElse(null);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var event = eventUseCase.getEventByKey(key);
+        var response = ResponseEntity.ok();
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(EventRepresentation.fromDomain(event));
     }
 
     @PostMapping("")
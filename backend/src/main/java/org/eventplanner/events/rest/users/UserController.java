@@ -50,10 +50,11 @@ public class UserController {
     ) {
         var signedInUser = authenticationUseCase.getSignedInUser();
         if (signedInUser.hasPermission(Permission.READ_USER_DETAILS)) {
-            var users = readUserUseCase.getDetailedUsers().stream();
             if (Boolean.TRUE.equals(details)) {
+                var users = readUserUseCase.getDetailedUsers().stream();
                 return ResponseEntity.ok(users.map(UserDetailsRepresentation::fromDomain).toList());
             }
+            var users = readUserUseCase.getUserList().stream();
             return ResponseEntity.ok(users.map(UserAdminListRepresentation::fromDomain).toList());
         } else {
             var users = readUserUseCase.getUsers().stream();
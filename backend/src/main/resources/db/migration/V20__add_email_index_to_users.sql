@@ -0,0 +1,5 @@
+ALTER TABLE users
+    ADD column email_index TEXT NULL;
+-- existing rows are backfilled by the application on startup, as the index is a keyed hash and the key is not
+-- available to the database
+CREATE INDEX idx_users_email_index ON users (email_index);
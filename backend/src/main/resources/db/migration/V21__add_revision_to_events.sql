@@ -0,0 +1,3 @@
+-- incremented on every change of an event or its registrations, used to detect unchanged events without loading them
+ALTER TABLE events
+    ADD column revision INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- a sender claims queued emails by leasing them until the given epoch millis, emails are only deleted once they were
+-- sent, so that a crashed sender does not lose them
+ALTER TABLE queued_emails
+    ADD column leased_until INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE queued_emails
+    ADD column lease_token TEXT NULL;
+CREATE INDEX idx_queued_emails_leased_until_created_at ON queued_emails (leased_until, created_at);
+CREATE INDEX idx_queued_emails_lease_token ON queued_emails (lease_token);
@@ -0,0 +1,21 @@
+-- emails are due once not_before (epoch millis) has passed, new emails are due right away and failed emails are
+-- rescheduled with a backoff. Existing emails default to 0 and are due immediately.
+ALTER TABLE queued_emails
+    ADD column not_before INTEGER NOT NULL DEFAULT 0;
+DROP INDEX idx_queued_emails_leased_until_created_at;
+CREATE INDEX idx_queued_emails_not_before_created_at ON queued_emails (not_before, created_at);
+
+-- emails that could not be sent after all retries
+CREATE TABLE dead_letter_emails
+(
+    key        TEXT PRIMARY KEY,
+    email      TEXT      NOT NULL,
+    subject    TEXT      NOT NULL,
+    body       TEXT      NOT NULL,
+    retries    INTEGER   NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    type       TEXT      NOT NULL,
+    user_key   TEXT      NOT NULL,
+    failed_at  TIMESTAMP NOT NULL,
+    last_error TEXT      NULL
+);
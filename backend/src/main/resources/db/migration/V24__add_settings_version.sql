@@ -0,0 +1,3 @@
+-- incremented with every settings update, so that other instances can detect changes without reading all settings
+INSERT INTO settings (key, value)
+VALUES ('settings.version', '0');
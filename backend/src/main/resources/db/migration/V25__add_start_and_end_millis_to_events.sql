@@ -0,0 +1,11 @@
+-- start and end as epoch millis, so that events can be queried by their start time without parsing all events
+ALTER TABLE events
+    ADD column start_millis INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE events
+    ADD column end_millis INTEGER NOT NULL DEFAULT 0;
+-- start and end are stored as ISO instants, julian days are converted to millis to keep fractional seconds. Values
+-- SQLite cannot parse keep 0 instead of failing the migration, saving the event sets them.
+UPDATE events
+SET start_millis = COALESCE(CAST(ROUND((julianday(start) - 2440587.5) * 86400000) AS INTEGER), 0),
+    end_millis   = COALESCE(CAST(ROUND((julianday(end) - 2440587.5) * 86400000) AS INTEGER), 0);
+CREATE INDEX idx_events_start_millis_end_millis ON events (start_millis, end_millis);
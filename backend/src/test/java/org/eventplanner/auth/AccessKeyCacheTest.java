@@ -0,0 +1,88 @@
+package org.eventplanner.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.testdata.SignedInUserFactory.createSignedInUser;
+
+import java.time.Duration;
+
+import org.eventplanner.events.domain.values.auth.AccessKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccessKeyCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessKeyCache testee;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testee = new AccessKeyCache(3, Duration.ofMinutes(2), Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    void shouldReturnAuthenticatedAccessKey() {
+        var accessKey = new AccessKey("key");
+        var signedInUser = createSignedInUser();
+        testee.putAuthenticated(accessKey, signedInUser);
+
+        var cached = testee.get(accessKey);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.signedInUser()).isSameAs(signedInUser);
+        assertThat(meterRegistry.counter("auth.access-keys.cache.hits").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountMissForUnknownAccessKey() {
+        assertThat(testee.get(new AccessKey("unknown"))).isNull();
+        assertThat(meterRegistry.counter("auth.access-keys.cache.misses").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireRejectedAccessKeyAfterNegativeTtl() throws Exception {
+        var accessKey = new AccessKey("rejected");
+        testee.putRejected(accessKey);
+
+        var cached = testee.get(accessKey);
+        assertThat(cached).isNotNull();
+        assertThat(cached.signedInUser()).isNull();
+
+        Thread.sleep(100);
+        assertThat(testee.get(accessKey)).isNull();
+        assertThat(meterRegistry.counter("auth.access-keys.cache.evictions").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAccessKeyWhenFull() {
+        var first = new AccessKey("first");
+        var second = new AccessKey("second");
+        var third = new AccessKey("third");
+        testee.putAuthenticated(first, createSignedInUser());
+        testee.putAuthenticated(second, createSignedInUser());
+        testee.putAuthenticated(third, createSignedInUser());
+        // reading the first key makes the second one the least recently used
+        testee.get(first);
+
+        testee.putAuthenticated(new AccessKey("fourth"), createSignedInUser());
+
+        assertThat(testee.get(first)).isNotNull();
+        assertThat(testee.get(second)).isNull();
+        assertThat(testee.get(third)).isNotNull();
+        assertThat(meterRegistry.counter("auth.access-keys.cache.evictions").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.access-keys.cache.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldEvictExpiredAccessKeys() throws Exception {
+        testee.putRejected(new AccessKey("rejected"));
+        testee.putAuthenticated(new AccessKey("authenticated"), createSignedInUser());
+
+        Thread.sleep(100);
+        testee.evictExpired();
+
+        assertThat(meterRegistry.get("auth.access-keys.cache.size").gauge().value()).isEqualTo(1);
+    }
+}
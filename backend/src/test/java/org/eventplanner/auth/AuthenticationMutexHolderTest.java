@@ -7,6 +7,11 @@ import static org.eventplanner.testdata.SignedInUserFactory.mockOidcUser;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eventplanner.events.domain.entities.users.SignedInUser;
 import org.eventplanner.events.domain.values.auth.AccessKey;
@@ -18,13 +23,17 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuthenticationMutexHolderTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private AuthenticationMutexHolder testee;
 
     @BeforeEach
     void setup() {
-        testee = new AuthenticationMutexHolder();
+        meterRegistry = new SimpleMeterRegistry();
+        testee = new AuthenticationMutexHolder(16, meterRegistry);
     }
 
     @Test
@@ -120,15 +129,15 @@ class AuthenticationMutexHolderTest {
     }
 
     @Test
-    void shouldReturnDifferentMutexesForNullAuthentication() {
+    void shouldReturnSameMutexForNullAuthentication() {
         var mutex1 = testee.getMutex(null);
         var mutex2 = testee.getMutex(null);
 
-        assertThat(mutex1).isNotSameAs(mutex2);
+        assertThat(mutex1).isSameAs(mutex2);
     }
 
     @Test
-    void shouldReturnDifferentMutexesForAnonymousAuthentication() {
+    void shouldReturnSameMutexForAnonymousAuthentication() {
         var anonymousAuthentication = new AnonymousAuthenticationToken(
             "test-key",
             "anonymous-user",
@@ -136,8 +145,61 @@ class AuthenticationMutexHolderTest {
         );
 
         var mutex1 = testee.getMutex(anonymousAuthentication);
-        var mutex2 = testee.getMutex(anonymousAuthentication);
+        var mutex2 = testee.getMutex(null);
 
-        assertThat(mutex1).isNotSameAs(mutex2);
+        assertThat(mutex1).isSameAs(mutex2);
+    }
+
+    @Test
+    void shouldUseBoundedNumberOfMutexes() {
+        var mutexes = IntStream.range(0, 10_000)
+            .mapToObj(i -> testee.getMutex(new AccessKeyAuthentication(new AccessKey("access-" + i))))
+            .collect(Collectors.toSet());
+
+        assertThat(mutexes).hasSizeLessThanOrEqualTo(16);
+    }
+
+    @Test
+    void shouldSerializeManyParallelLoginsOfSamePrincipals() throws Exception {
+        var subjectCount = 8;
+        var loginCount = 500;
+        var authentications = new OAuth2AuthenticationToken[subjectCount];
+        var active = new AtomicInteger[subjectCount];
+        var logins = new int[subjectCount];
+        for (int i = 0; i < subjectCount; i++) {
+            var oidcUser = mockOidcUser("subject-" + i, "user" + i + "@email.com", "User", "One");
+            authentications[i] = new OAuth2AuthenticationToken(oidcUser, List.of(), "oidc");
+            active[i] = new AtomicInteger();
+        }
+        var overlaps = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < loginCount; i++) {
+                var subject = i % subjectCount;
+                executor.submit(() -> {
+                    start.await();
+                    var lock = testee.lock(authentications[subject]);
+                    try {
+                        if (active[subject].incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        logins[subject]++;
+                        Thread.yield();
+                        active[subject].decrementAndGet();
+                    } finally {
+                        lock.unlock();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(overlaps.get()).isZero();
+        assertThat(IntStream.of(logins).sum()).isEqualTo(loginCount);
+        assertThat(meterRegistry.counter("auth.mutex.contended").count()).isPositive();
+        assertThat(meterRegistry.timer("auth.mutex.wait").count())
+            .isEqualTo((long) meterRegistry.counter("auth.mutex.contended").count());
     }
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eventplanner.events.application.services.AuthenticationService;
 import org.eventplanner.events.domain.entities.users.SignedInUser;
+import org.eventplanner.events.domain.exceptions.UnauthorizedException;
 import org.eventplanner.events.domain.values.auth.AccessKey;
 import org.eventplanner.events.domain.values.users.AuthKey;
 import org.eventplanner.events.domain.values.users.UserKey;
@@ -32,6 +34,7 @@ import org.springframework.security.oauth2.core.oidc.StandardClaimNames;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -42,6 +45,7 @@ class ConvertToSignedInUserAuthenticationFilterTest {
 
     private AuthenticationService authService;
     private AuthenticationMutexHolder authenticationMutexHolder;
+    private AccessKeyCache accessKeyCache;
     private ConvertToSignedInUserAuthenticationFilter testee;
     private HttpServletRequest request;
     private HttpServletResponse response;
@@ -50,9 +54,14 @@ class ConvertToSignedInUserAuthenticationFilterTest {
     @BeforeEach
     void setup() {
         authService = mock();
-        authenticationMutexHolder = mock();
-        when(authenticationMutexHolder.getMutex(any())).thenReturn(new Object());
-        testee = new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder);
+        authenticationMutexHolder = new AuthenticationMutexHolder(16, new SimpleMeterRegistry());
+        accessKeyCache = new AccessKeyCache(
+            100,
+            Duration.ofMinutes(2),
+            Duration.ofSeconds(30),
+            new SimpleMeterRegistry()
+        );
+        testee = new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder, accessKeyCache);
         request = mock();
         response = mock();
         filterChain = mock();
@@ -125,13 +134,44 @@ class ConvertToSignedInUserAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void shouldServeAuthenticatedAccessKeyFromCache() throws Exception {
+        var accessKey = new AccessKey("access-key-cached");
+        var signedInUser = createSignedInUser();
+        when(authService.authenticate(accessKey)).thenReturn(signedInUser);
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.getContext().setAuthentication(new AccessKeyAuthentication(accessKey));
+            testee.doFilterInternal(request, response, filterChain);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(signedInUser);
+        }
+
+        verify(authService, times(1)).authenticate(accessKey);
+    }
+
+    @Test
+    void shouldRejectUnknownAccessKeyFromCache() throws Exception {
+        var accessKey = new AccessKey("access-key-unknown");
+        var authentication = new AccessKeyAuthentication(accessKey);
+        when(authService.authenticate(accessKey)).thenThrow(new UnauthorizedException("Unknown access key"));
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            testee.doFilterInternal(request, response, filterChain);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+        }
+
+        verify(authService, times(1)).authenticate(accessKey);
+        verify(filterChain, times(3)).doFilter(request, response);
+    }
+
     @Test
     void shouldMapAccessKeyAuthenticationOnlyOnceForParallelRequestsOfSameKey() throws Exception {
         var parallelRequestCount = 10;
         var accessKey = new AccessKey("access-key-shared");
         var signedInUser = createSignedInUser();
         var concurrencyTestee =
-            new ConvertToSignedInUserAuthenticationFilter(authService, new AuthenticationMutexHolder());
+            new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder, accessKeyCache);
 
         when(authService.authenticate(accessKey)).thenReturn(signedInUser);
 
@@ -171,7 +211,7 @@ class ConvertToSignedInUserAuthenticationFilterTest {
     void shouldMapAccessKeyAuthenticationsForParallelRequestsOfDifferentKeys() throws Exception {
         var parallelRequestCount = 5;
         var concurrencyTestee =
-            new ConvertToSignedInUserAuthenticationFilter(authService, new AuthenticationMutexHolder());
+            new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder, accessKeyCache);
         var ready = new CountDownLatch(parallelRequestCount);
         var start = new CountDownLatch(1);
         var done = new CountDownLatch(parallelRequestCount);
@@ -214,7 +254,7 @@ class ConvertToSignedInUserAuthenticationFilterTest {
         var signedInUser = createSignedInUser();
         var oidcUser = mockOidcUser(signedInUser);
         var concurrencyTestee =
-            new ConvertToSignedInUserAuthenticationFilter(authService, new AuthenticationMutexHolder());
+            new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder, accessKeyCache);
 
         when(authService.authenticate(oidcUser)).thenReturn(signedInUser);
 
@@ -259,7 +299,7 @@ class ConvertToSignedInUserAuthenticationFilterTest {
     void shouldMapAllAuthenticationsForParallelRequestsOfDifferentUsers() throws Exception {
         var parallelRequestCount = 5;
         var concurrencyTestee =
-            new ConvertToSignedInUserAuthenticationFilter(authService, new AuthenticationMutexHolder());
+            new ConvertToSignedInUserAuthenticationFilter(authService, authenticationMutexHolder, accessKeyCache);
         var ready = new CountDownLatch(parallelRequestCount);
         var start = new CountDownLatch(1);
         var allAuthCallsEntered = new CountDownLatch(parallelRequestCount);
@@ -11,12 +11,14 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.eventplanner.events.application.services.UserService;
 import org.eventplanner.events.domain.entities.users.SignedInUser;
 import org.eventplanner.events.domain.exceptions.UnauthorizedException;
+import org.eventplanner.events.domain.values.auth.Role;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,18 +33,21 @@ class RefreshSignedInUserAuthenticationFilterTest {
 
     private RefreshSignedInUserAuthenticationFilter testee;
     private UserService userService;
+    private SignedInUserCache signedInUserCache;
     private FilterChain filterChain;
 
     @BeforeEach
     void setup() {
         userService = mock();
-        testee = new RefreshSignedInUserAuthenticationFilter(userService, new AuthenticationMutexHolder());
+        signedInUserCache = new SignedInUserCache();
+        testee = new RefreshSignedInUserAuthenticationFilter(userService, signedInUserCache);
         filterChain = mock();
     }
 
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
+        signedInUserCache.shutdown();
     }
 
     @Test
@@ -104,5 +109,34 @@ class RefreshSignedInUserAuthenticationFilterTest {
             .isInstanceOf(UnauthorizedException.class);
         verifyNoInteractions(filterChain);
     }
-}
 
+    @Test
+    void shouldNotLoadUserForRecentPrincipal() throws Exception {
+        var signedInUser = SignedInUser.fromUser(createUser(), mock(AuthenticatedPrincipal.class));
+        SecurityContextHolder.getContext().setAuthentication(signedInUser);
+
+        testee.doFilterInternal(mock(), mock(), filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(signedInUser);
+        verifyNoInteractions(userService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void shouldRefreshRecentPrincipalWhenUserWasChanged() throws Exception {
+        var user = createUser().withRoles(List.of(Role.TEAM_MEMBER));
+        var signedInUser = SignedInUser.fromUser(user, mock(AuthenticatedPrincipal.class));
+        when(userService.getUserByKey(user.getKey())).thenReturn(Optional.of(user.withRoles(List.of(Role.ADMIN))));
+        SecurityContextHolder.getContext().setAuthentication(signedInUser);
+
+        Thread.sleep(5);
+        signedInUserCache.invalidate(user.getKey());
+        testee.doFilterInternal(mock(), mock(), filterChain);
+
+        var refreshedUser = (SignedInUser) Objects.requireNonNull(
+            SecurityContextHolder.getContext().getAuthentication()
+        );
+        assertThat(refreshedUser.roles()).containsExactly(Role.ADMIN);
+        verify(filterChain).doFilter(any(), any());
+    }
+}
@@ -0,0 +1,138 @@
+package org.eventplanner.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eventplanner.events.application.events.UserChangedEvent;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SignedInUserCacheTest {
+
+    private SignedInUserCache testee;
+    private UserDetails user;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        testee = new SignedInUserCache();
+        user = createUser();
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testee.shutdown();
+    }
+
+    @Test
+    void shouldLoadMissingUserRightAway() {
+        var cached = testee.get(user.getKey(), Instant.EPOCH, this::load);
+
+        assertThat(cached.user()).isSameAs(user);
+        assertThat(cached.invalidated()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldServeCachedUserWithinMaxAge() {
+        testee.get(user.getKey(), Instant.EPOCH, this::load);
+
+        var cached = testee.get(user.getKey(), Instant.EPOCH, this::load);
+
+        assertThat(cached.user()).isSameAs(user);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldServeOutdatedUserWhileRefreshingOnceInBackground() throws Exception {
+        var initial = testee.get(user.getKey(), Instant.EPOCH, this::load);
+        var release = new CountDownLatch(1);
+        var refreshes = new AtomicInteger();
+        var outdatedAfter = Instant.now().plus(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            var cached = testee.get(user.getKey(), outdatedAfter, key -> {
+                refreshes.incrementAndGet();
+                await(release);
+                return load(key);
+            });
+            assertThat(cached).isSameAs(initial);
+        }
+        release.countDown();
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (testee.peek(user.getKey()) == initial && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(testee.peek(user.getKey())).isNotSameAs(initial);
+        assertThat(refreshes).hasValue(1);
+    }
+
+    @Test
+    void shouldLoadInvalidatedUserRightAway() throws Exception {
+        var initial = testee.get(user.getKey(), Instant.EPOCH, this::load);
+        Thread.sleep(5);
+
+        testee.invalidate(user.getKey());
+        var invalidated = testee.peek(user.getKey());
+        var reloaded = testee.get(user.getKey(), Instant.EPOCH, this::load);
+
+        assertThat(invalidated).isNotNull();
+        assertThat(invalidated.invalidated()).isTrue();
+        assertThat(reloaded.invalidated()).isFalse();
+        assertThat(reloaded.loadedAt()).isAfter(initial.loadedAt());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldMarkUncachedUserAsInvalidated() {
+        testee.invalidate(user.getKey());
+
+        var invalidated = testee.peek(user.getKey());
+
+        assertThat(invalidated).isNotNull();
+        assertThat(invalidated.invalidated()).isTrue();
+    }
+
+    @Test
+    void shouldInvalidateChangedUser() {
+        testee.get(user.getKey(), Instant.EPOCH, this::load);
+
+        testee.onUserChanged(new UserChangedEvent(user.getKey()));
+
+        var invalidated = testee.peek(user.getKey());
+        assertThat(invalidated).isNotNull();
+        assertThat(invalidated.invalidated()).isTrue();
+    }
+
+    @Test
+    void shouldCacheDeletedUser() {
+        var cached = testee.get(new UserKey(), Instant.EPOCH, _ -> Optional.empty());
+
+        assertThat(cached.user()).isNull();
+    }
+
+    private Optional<UserDetails> load(UserKey key) {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
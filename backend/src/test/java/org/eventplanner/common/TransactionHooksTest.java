@@ -0,0 +1,58 @@
+package org.eventplanner.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TransactionHooksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRunRightAwayWithoutTransaction() {
+        var runs = new AtomicInteger();
+
+        TransactionHooks.afterCommit(runs::incrementAndGet);
+        TransactionHooks.afterCompletion(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void shouldRunAfterCommitOnlyWhenCommitted() {
+        var runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionHooks.afterCommit(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(0);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(runs).hasValue(0);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void shouldRunAfterCompletionAlsoWhenRolledBack() {
+        var runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionHooks.afterCompletion(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(0);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(runs).hasValue(1);
+    }
+}
@@ -0,0 +1,119 @@
+package org.eventplanner.events.adapter.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.testdata.QualificationFactory.createQualification;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eventplanner.events.domain.entities.qualifications.Qualification;
+import org.eventplanner.events.domain.values.qualifications.QualificationKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CatalogCacheTest {
+
+    private AtomicInteger loads;
+    private List<Qualification> stored;
+    private CatalogCache<QualificationKey, Qualification> testee;
+
+    @BeforeEach
+    void setup() {
+        loads = new AtomicInteger();
+        stored = new CopyOnWriteArrayList<>(List.of(createQualification()));
+        testee = new CatalogCache<>("qualification", this::load, Qualification::getKey, Qualification::copy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadCatalogOnlyOnce() {
+        var qualification = stored.getFirst();
+
+        testee.findAll();
+        testee.findAllAsMap();
+        var result = testee.findByKey(qualification.getKey());
+
+        assertThat(result).contains(qualification);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotLoadAgainAfterWarmUp() {
+        testee.reload();
+
+        testee.findAll();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotExposeCachedEntriesToModifications() {
+        var key = stored.getFirst().getKey();
+
+        testee.findAll().getFirst().setName("Modified");
+        testee.findAllAsMap().get(key).setName("Modified");
+        testee.findByKey(key).orElseThrow().setName("Modified");
+
+        assertThat(testee.findByKey(key).orElseThrow().getName()).isEqualTo(stored.getFirst().getName());
+    }
+
+    @Test
+    void shouldReloadRightAwayWithoutTransaction() {
+        testee.findAll();
+        stored.add(createQualification());
+
+        testee.reloadAfterCommit();
+
+        assertThat(testee.findAll()).hasSize(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReloadOnlyAfterCommit() {
+        testee.findAll();
+        TransactionSynchronizationManager.initSynchronization();
+        stored.add(createQualification());
+
+        testee.reloadAfterCommit();
+
+        assertThat(testee.findAll()).hasSize(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(testee.findAll()).hasSize(2);
+    }
+
+    @Test
+    void shouldLoadAgainOnNextReadWhenReloadFails() {
+        var failing = new CatalogCache<QualificationKey, Qualification>(
+            "qualification",
+            () -> {
+                if (loads.incrementAndGet() == 2) {
+                    throw new IllegalStateException("database unavailable");
+                }
+                return stored;
+            },
+            Qualification::getKey,
+            Qualification::copy
+        );
+        failing.findAll();
+        stored.add(createQualification());
+
+        failing.reloadAfterCommit();
+
+        assertThat(failing.findAll()).hasSize(2);
+    }
+
+    private List<Qualification> load() {
+        loads.incrementAndGet();
+        return List.copyOf(stored);
+    }
+}
@@ -0,0 +1,107 @@
+package org.eventplanner.events.adapter.jpa.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.testdata.EventFactory.createEvent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eventplanner.events.domain.entities.events.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EventCacheTest {
+
+    private EventCache testee;
+
+    @BeforeEach
+    void setup() {
+        testee = new EventCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadYearOnlyOnce() {
+        var loads = new AtomicInteger();
+        var event = createEvent();
+
+        testee.getOrLoad(2025, () -> load(loads, event));
+        var result = testee.getOrLoad(2025, () -> load(loads, event));
+
+        assertThat(result).containsExactly(event);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldCacheYearsSeparately() {
+        var loads = new AtomicInteger();
+
+        testee.getOrLoad(2025, () -> load(loads, createEvent()));
+        testee.getOrLoad(2026, () -> load(loads, createEvent()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        var loads = new AtomicInteger();
+        var event = createEvent();
+        testee.getOrLoad(2025, () -> load(loads, event));
+
+        testee.invalidate();
+        var updatedEvent = event.withName("Updated");
+        var result = testee.getOrLoad(2025, () -> load(loads, updatedEvent));
+
+        assertThat(result).containsExactly(updatedEvent);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheUncommittedChanges() {
+        var loads = new AtomicInteger();
+        var event = createEvent();
+        TransactionSynchronizationManager.initSynchronization();
+
+        testee.invalidate();
+        var uncommittedEvent = event.withName("Uncommitted");
+        testee.getOrLoad(2025, () -> load(loads, uncommittedEvent));
+        testee.getOrLoad(2025, () -> load(loads, uncommittedEvent));
+        assertThat(loads).hasValue(2);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        var result = testee.getOrLoad(2025, () -> load(loads, event));
+
+        assertThat(result).containsExactly(event);
+        assertThat(testee.getOrLoad(2025, () -> load(loads, uncommittedEvent))).containsExactly(event);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldNotExposeCachedEventsToModifications() {
+        var event = createEvent();
+        testee.getOrLoad(2025, () -> List.of(event.copy()));
+
+        var modified = testee.getOrLoad(2025, List::of).getFirst();
+        modified.setName("Changed");
+        modified.getSlots().forEach(slot -> slot.setAssignedRegistration(null));
+        modified.getRegistrations().forEach(registration -> registration.setNote(null));
+        var result = testee.getOrLoad(2025, List::of);
+
+        assertThat(result).containsExactly(event);
+    }
+
+    private static List<Event> load(AtomicInteger loads, Event event) {
+        loads.incrementAndGet();
+        return List.of(event);
+    }
+}
@@ -1,14 +1,26 @@
 package org.eventplanner.events.adapter.jpa.events;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eventplanner.testdata.EventFactory.createEvent;
+import static org.eventplanner.testdata.RegistrationFactory.createRegistration;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eventplanner.events.domain.entities.events.Event;
+import org.eventplanner.events.domain.values.events.EventState;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +35,7 @@ class EventJpaRepositoryAdapterTest {
     void setup() {
         registrationJpaRepository = mock();
         eventJpaRepository = mock();
-        testee = new EventJpaRepositoryAdapter(registrationJpaRepository, eventJpaRepository);
+        testee = new EventJpaRepositoryAdapter(registrationJpaRepository, eventJpaRepository, new EventCache());
     }
 
     @Test
@@ -45,4 +57,73 @@ class EventJpaRepositoryAdapterTest {
             .isInstanceOf(NoSuchElementException.class);
         verify(eventJpaRepository, never()).save(any(EventJpaEntity.class));
     }
+
+    @Test
+    void shouldAssignRegistrationsToTheirEvents() {
+        var eventA = createEvent().withRegistrations(List.of(createRegistration(), createRegistration()));
+        var eventB = createEvent().withRegistrations(List.of(createRegistration()));
+        var eventC = createEvent().withRegistrations(List.of());
+        when(eventJpaRepository.findAllByYear(2025)).thenReturn(Stream.of(eventA, eventB, eventC)
+            .map(EventJpaEntity::fromDomain)
+            .toList());
+        when(registrationJpaRepository.findAllByEventKeyIn(anyList())).thenReturn(Stream.of(eventB, eventA)
+            .flatMap(event -> event.getRegistrations().stream()
+                .map(registration -> RegistrationJpaEntity.fromDomain(registration, event.getKey())))
+            .toList());
+
+        var result = testee.findAllByYear(2025);
+
+        assertThat(result).extracting(Event::getKey)
+            .containsExactly(eventA.getKey(), eventB.getKey(), eventC.getKey());
+        assertThat(result).extracting(Event::getRegistrations)
+            .containsExactly(eventA.getRegistrations(), eventB.getRegistrations(), List.of());
+    }
+
+    @Test
+    void shouldReloadEventsAfterUpdate() {
+        var event = createEvent();
+        when(eventJpaRepository.findAllByYear(2025)).thenReturn(List.of(EventJpaEntity.fromDomain(event)));
+        when(eventJpaRepository.existsById(event.getKey().value())).thenReturn(true);
+        when(eventJpaRepository.save(any(EventJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        testee.findAllByYear(2025);
+        testee.findAllByYear(2025);
+        testee.update(event);
+        testee.findAllByYear(2025);
+
+        verify(eventJpaRepository, times(2)).findAllByYear(2025);
+    }
+
+    @Test
+    void shouldFindEventsStartingBetweenByEpochMillis() {
+        var event = createEvent().withState(EventState.PLANNED);
+        var from = event.getStart().minus(1, ChronoUnit.DAYS);
+        var to = event.getStart().plus(1, ChronoUnit.DAYS);
+        when(eventJpaRepository.findAllStartingBetween(
+            from.toEpochMilli(),
+            to.toEpochMilli(),
+            List.of(EventState.PLANNED.value())
+        )).thenReturn(List.of(EventJpaEntity.fromDomain(event)));
+        when(registrationJpaRepository.findAllByEventKeyIn(List.of(event.getKey().value()))).thenReturn(
+            event.getRegistrations().stream()
+                .map(registration -> RegistrationJpaEntity.fromDomain(registration, event.getKey()))
+                .toList()
+        );
+
+        var result = testee.findStartingBetween(from, to, Set.of(EventState.PLANNED));
+
+        assertThat(result).extracting(Event::getKey).containsExactly(event.getKey());
+        assertThat(result.getFirst().getRegistrations()).isEqualTo(event.getRegistrations());
+        verify(eventJpaRepository, never()).findAllByYear(anyInt());
+    }
+
+    @Test
+    void shouldStoreStartAndEndAsEpochMillis() {
+        var event = createEvent();
+
+        var entity = EventJpaEntity.fromDomain(event);
+
+        assertThat(entity.getStartMillis()).isEqualTo(event.getStart().toEpochMilli());
+        assertThat(entity.getEndMillis()).isEqualTo(event.getEnd().toEpochMilli());
+    }
 }
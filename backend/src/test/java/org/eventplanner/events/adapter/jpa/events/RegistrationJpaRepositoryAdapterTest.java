@@ -22,7 +22,7 @@ class RegistrationJpaRepositoryAdapterTest {
     @BeforeEach
     void setup() {
         repository = mock();
-        testee = new RegistrationJpaRepositoryAdapter(repository);
+        testee = new RegistrationJpaRepositoryAdapter(repository, mock(), new EventCache());
     }
 
     @Test
@@ -1,29 +1,43 @@
 package org.eventplanner.events.adapter.jpa.notifications;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
 import org.eventplanner.events.domain.values.notifications.NotificationType;
 import org.eventplanner.events.domain.values.users.UserKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.persistence.EntityManager;
 
 class QueuedEmailJpaRepositoryAdapterTest {
 
     private QueuedEmailJpaRepository repository;
+    private DeadLetterEmailJpaRepository deadLetterRepository;
+    private EntityManager entityManager;
     private QueuedEmailJpaRepositoryAdapter testee;
 
     @BeforeEach
     void setup() {
         repository = mock();
-        testee = new QueuedEmailJpaRepositoryAdapter(repository);
+        deadLetterRepository = mock();
+        entityManager = mock();
+        testee = new QueuedEmailJpaRepositoryAdapter(repository, deadLetterRepository, entityManager);
     }
 
     @Test
@@ -44,4 +58,125 @@ class QueuedEmailJpaRepositoryAdapterTest {
             .isInstanceOf(IllegalStateException.class);
         verify(repository, never()).save(any(QueuedEmailJpaEntity.class));
     }
+
+    @Test
+    void shouldReturnEmailsLeasedWithSameToken() {
+        var entity = createEntity();
+        var token = ArgumentCaptor.forClass(String.class);
+        when(repository.lease(token.capture(), anyLong(), anyLong(), eq(5))).thenReturn(1);
+        when(repository.findAllByLeaseTokenOrderByCreatedAtAsc(any())).thenReturn(List.of(entity));
+
+        var claimed = testee.claim(5, Duration.ofMinutes(5));
+
+        assertThat(claimed).extracting(QueuedEmail::getKey).containsExactly("queued-email-1");
+        assertThat(claimed).extracting(QueuedEmail::getLeaseToken).containsExactly(token.getValue());
+        verify(repository).findAllByLeaseTokenOrderByCreatedAtAsc(token.getValue());
+    }
+
+    @Test
+    void shouldNotLookUpEmailsWhenNothingWasLeased() {
+        when(repository.lease(any(), anyLong(), anyLong(), eq(5))).thenReturn(0);
+
+        assertThat(testee.claim(5, Duration.ofMinutes(5))).isEmpty();
+        verify(repository, never()).findAllByLeaseTokenOrderByCreatedAtAsc(any());
+    }
+
+    @Test
+    void shouldRescheduleInsteadOfRequeueing() {
+        var before = Instant.now();
+
+        when(repository.reschedule(eq("queued-email-1"), eq("lease"), anyLong())).thenReturn(1);
+
+        assertThat(testee.nack("queued-email-1", "lease", Duration.ofMinutes(1))).isTrue();
+
+        var notBefore = ArgumentCaptor.forClass(Long.class);
+        verify(repository).reschedule(eq("queued-email-1"), eq("lease"), notBefore.capture());
+        assertThat(notBefore.getValue()).isGreaterThanOrEqualTo(before.plus(Duration.ofMinutes(1)).toEpochMilli());
+        verify(repository, never()).save(any(QueuedEmailJpaEntity.class));
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldMoveEmailToDeadLettersWithLastError() {
+        var entity = createEntity();
+        when(repository.findById(entity.getKey())).thenReturn(Optional.of(entity));
+        when(repository.deleteLeased(entity.getKey(), "lease")).thenReturn(1);
+
+        assertThat(testee.deadLetter(entity.getKey(), "lease", "connection refused")).isTrue();
+
+        var deadLetter = ArgumentCaptor.forClass(DeadLetterEmailJpaEntity.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertThat(deadLetter.getValue().getKey()).isEqualTo(entity.getKey());
+        assertThat(deadLetter.getValue().getBody()).isEqualTo(entity.getBody());
+        assertThat(deadLetter.getValue().getLastError()).isEqualTo("connection refused");
+    }
+
+    @Test
+    void shouldNotMoveEmailToDeadLettersWhenLeaseWasLost() {
+        var entity = createEntity();
+        when(repository.findById(entity.getKey())).thenReturn(Optional.of(entity));
+        when(repository.deleteLeased(entity.getKey(), "lease")).thenReturn(0);
+
+        assertThat(testee.deadLetter(entity.getKey(), "lease", "connection refused")).isFalse();
+
+        verify(deadLetterRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldOnlyAckEmailsStillLeasedWithToken() {
+        when(repository.deleteLeased("queued-email-1", "lease")).thenReturn(1);
+
+        assertThat(testee.ack("queued-email-1", "lease")).isTrue();
+        assertThat(testee.ack("queued-email-1", "expired-lease")).isFalse();
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldQueueAllEmailsWithoutLookingUpEachEmail() {
+        var emails = List.of(createEmail(), createEmail(), createEmail());
+
+        testee.queueAll(emails);
+
+        verify(repository, times(1)).findAllById(any());
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).save(any(QueuedEmailJpaEntity.class));
+        verify(entityManager, times(3)).persist(any(QueuedEmailJpaEntity.class));
+    }
+
+    @Test
+    void shouldNotQueueAnyEmailWhenOneAlreadyExists() {
+        var emails = List.of(createEmail(), createEmail());
+        when(repository.findAllById(any())).thenReturn(List.of(createEntity()));
+
+        assertThatThrownBy(() -> testee.queueAll(emails))
+            .isInstanceOf(IllegalStateException.class);
+        verify(entityManager, never()).persist(any());
+    }
+
+    private QueuedEmail createEmail() {
+        return new QueuedEmail(
+            NotificationType.ADDED_TO_CREW,
+            "user@example.org",
+            new UserKey("user-1"),
+            "subject",
+            "body"
+        );
+    }
+
+    private QueuedEmailJpaEntity createEntity() {
+        var createdAt = Instant.now();
+        return new QueuedEmailJpaEntity(
+            "queued-email-1",
+            NotificationType.ADDED_TO_CREW.toString(),
+            "user@example.org",
+            "user-1",
+            "subject",
+            "body",
+            0,
+            createdAt.toString(),
+            createdAt.toEpochMilli(),
+            0L,
+            null
+        );
+    }
 }
@@ -1,13 +1,16 @@
 package org.eventplanner.events.adapter.jpa.qualifications;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eventplanner.testdata.QualificationFactory.createQualification;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.eventplanner.events.domain.values.qualifications.QualificationKey;
@@ -54,4 +57,32 @@ class QualificationJpaRepositoryAdapterTest {
             .isInstanceOf(NoSuchElementException.class);
         verify(repository, never()).deleteById(key.value());
     }
+
+    @Test
+    void shouldServeReadsFromCatalog() {
+        var qualification = createQualification();
+        when(repository.findAll()).thenReturn(List.of(QualificationJpaEntity.fromDomain(qualification)));
+        testee.warmUp();
+
+        assertThat(testee.findAll()).containsExactly(qualification);
+        assertThat(testee.findAllAsMap()).containsEntry(qualification.getKey(), qualification);
+        assertThat(testee.findByKey(qualification.getKey())).contains(qualification);
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void shouldReloadCatalogAfterUpdate() {
+        var qualification = createQualification();
+        var updated = qualification.withName("Updated");
+        when(repository.findAll()).thenReturn(List.of(QualificationJpaEntity.fromDomain(qualification)));
+        when(repository.existsById(qualification.getKey().value())).thenReturn(true);
+        testee.warmUp();
+
+        when(repository.findAll()).thenReturn(List.of(QualificationJpaEntity.fromDomain(updated)));
+        testee.update(updated);
+
+        assertThat(testee.findAll()).containsExactly(updated);
+        verify(repository, times(2)).findAll();
+    }
 }
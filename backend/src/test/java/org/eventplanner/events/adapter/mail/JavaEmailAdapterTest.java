@@ -0,0 +1,172 @@
+package org.eventplanner.events.adapter.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
+import org.eventplanner.events.domain.values.config.EmailConfig;
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class JavaEmailAdapterTest {
+
+    private static final int EMAIL_COUNT = 50;
+
+    private SmtpStandIn smtpServer;
+    private JavaEmailAdapter testee;
+
+    @BeforeEach
+    void setup() throws Exception {
+        smtpServer = new SmtpStandIn();
+        testee = new JavaEmailAdapter(Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        testee.close();
+        smtpServer.close();
+    }
+
+    @Test
+    void shouldReuseConnectionForAllEmails() throws Exception {
+        var config = createConfig("username");
+
+        var start = System.nanoTime();
+        for (var email : createEmails()) {
+            testee.sendEmail(email, config);
+        }
+        var failures = testee.sendEmails(createEmails(), config);
+        var duration = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessages()).isEqualTo(2 * EMAIL_COUNT);
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+        log.info(
+            "Sent {} emails over {} connection(s) in {} ms",
+            smtpServer.getMessages(),
+            smtpServer.getConnections(),
+            duration.toMillis()
+        );
+    }
+
+    @Test
+    void shouldConnectForEachEmailWithoutReusedAdapter() throws Exception {
+        // baseline: a new adapter per email behaves like building a new mail sender for every email
+        var config = createConfig("username");
+
+        var start = System.nanoTime();
+        for (var email : createEmails()) {
+            var adapter = new JavaEmailAdapter(Duration.ofMinutes(1), new SimpleMeterRegistry());
+            adapter.sendEmail(email, config);
+            adapter.close();
+        }
+        var duration = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(smtpServer.getMessages()).isEqualTo(EMAIL_COUNT);
+        assertThat(smtpServer.getConnections()).isEqualTo(EMAIL_COUNT);
+        log.info(
+            "Sent {} emails over {} connection(s) in {} ms",
+            smtpServer.getMessages(),
+            smtpServer.getConnections(),
+            duration.toMillis()
+        );
+    }
+
+    @Test
+    void shouldReconnectWhenConnectionSettingsChange() throws Exception {
+        testee.sendEmail(createEmail(), createConfig("username"));
+        testee.sendEmail(createEmail(), createConfig("username", "[TEST] "));
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+
+        testee.sendEmail(createEmail(), createConfig("other-username"));
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMessages()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReconnectAfterIdleTimeout() throws Exception {
+        testee = new JavaEmailAdapter(Duration.ZERO, new SimpleMeterRegistry());
+        var config = createConfig("username");
+
+        testee.sendEmail(createEmail(), config);
+        testee.sendEmail(createEmail(), config);
+
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMessages()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReconnectAfterConnectionWasClosedByServer() throws Exception {
+        var config = createConfig("username");
+
+        testee.sendEmail(createEmail(), config);
+        smtpServer.dropConnections();
+        // the email is not sent again, as it might have been accepted before the connection broke
+        assertThatThrownBy(() -> testee.sendEmail(createEmail(), config)).isInstanceOf(Exception.class);
+        testee.sendEmail(createEmail(), config);
+
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMessages()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReconnectForRemainingEmailsOfBatchAfterConnectionWasClosedByServer() throws Exception {
+        var config = createConfig("username");
+        var emails = createEmails();
+
+        testee.sendEmail(createEmail(), config);
+        smtpServer.dropConnections();
+        var failures = testee.sendEmails(emails, config);
+
+        assertThat(failures).containsOnlyKeys(emails.getFirst().getKey());
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMessages()).isEqualTo(EMAIL_COUNT);
+    }
+
+    private List<QueuedEmail> createEmails() {
+        return IntStream.range(0, EMAIL_COUNT).mapToObj(i -> createEmail()).toList();
+    }
+
+    private QueuedEmail createEmail() {
+        return new QueuedEmail(
+            NotificationType.ADDED_TO_CREW,
+            "someone@email.com",
+            new UserKey(),
+            "Test",
+            "<p>Test</p>"
+        );
+    }
+
+    private EmailConfig createConfig(String username) {
+        return createConfig(username, null);
+    }
+
+    private EmailConfig createConfig(String username, String titlePrefix) {
+        return new EmailConfig(
+            true,
+            null,
+            titlePrefix,
+            "from@email.com",
+            "from",
+            null,
+            null,
+            smtpServer.getHost(),
+            smtpServer.getPort(),
+            false,
+            false,
+            username,
+            "password"
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package org.eventplanner.events.adapter.mail;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal in-process SMTP server, that accepts every message and counts the opened connections and received
+ * messages.
+ */
+class SmtpStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+
+    SmtpStandIn() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().name("smtp-stand-in").start(this::accept);
+    }
+
+    String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    int getMessages() {
+        return messages.get();
+    }
+
+    /**
+     * Closes all open connections, like a mail server that drops idle clients.
+     */
+    void dropConnections() throws IOException {
+        for (var socket : openSockets) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                connections.incrementAndGet();
+                openSockets.add(socket);
+                Thread.ofVirtual().start(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (
+            socket;
+            var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), US_ASCII));
+            var out = new OutputStreamWriter(socket.getOutputStream(), US_ASCII)
+        ) {
+            reply(out, "220 localhost SMTP stand-in");
+            String line;
+            while ((line = in.readLine()) != null) {
+                var command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("EHLO")) {
+                    reply(out, "250-localhost");
+                    reply(out, "250 AUTH PLAIN");
+                } else if (command.startsWith("AUTH PLAIN")) {
+                    if (line.trim().split(" ").length < 3) {
+                        reply(out, "334 ");
+                        in.readLine();
+                    }
+                    reply(out, "235 2.7.0 Authentication successful");
+                } else if (command.startsWith("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // the message content is not of interest
+                    }
+                    messages.incrementAndGet();
+                    reply(out, "250 OK");
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            // connection was closed
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    private void reply(Writer out, String line) throws IOException {
+        out.write(line + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eventplanner.events.application.ports.ConfigurationRepository;
+import org.eventplanner.events.application.ports.ConfigurationSource;
+import org.eventplanner.events.domain.aggregates.ApplicationConfig;
+import org.eventplanner.events.domain.aggregates.ApplicationConfig.ApplicationConfigUpdateSpec;
+import org.eventplanner.events.domain.values.config.EmailConfig.EmailConfigUpdateSpec;
+import org.eventplanner.events.domain.values.config.FrontendConfig.FrontendConfigUpdateSpec;
+import org.eventplanner.events.domain.values.config.NotificationConfig.NotificationConfigUpdateSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationServiceTest {
+
+    private ConfigurationRepository configurationRepository;
+    private ConfigurationSource configurationSource;
+    private ConfigurationService testee;
+
+    @BeforeEach
+    void setUp() {
+        configurationRepository = mock();
+        configurationSource = mock();
+        when(configurationSource.getConfig(any())).thenAnswer(_ -> new ApplicationConfig());
+        testee = new ConfigurationService(configurationRepository, List.of(configurationSource), mock());
+    }
+
+    @Test
+    void shouldLoadConfigOnceForConcurrentReaders() throws Exception {
+        var release = new CountDownLatch(1);
+        when(configurationSource.getConfig(any())).thenAnswer(_ -> {
+            release.await();
+            return new ApplicationConfig();
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var readers = new ArrayList<Future<ApplicationConfig>>();
+            for (int i = 0; i < 20; i++) {
+                readers.add(executor.submit(testee::getConfig));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            var first = readers.getFirst().get();
+            for (var reader : readers) {
+                assertThat(reader.get()).isSameAs(first);
+            }
+        }
+        verify(configurationSource, times(1)).getConfig(any());
+    }
+
+    @Test
+    void shouldReloadConfigOnUpdate() {
+        var initialConfig = testee.getConfig();
+
+        testee.updateConfig(createUpdateSpec());
+
+        assertThat(testee.getConfig()).isNotSameAs(initialConfig);
+        verify(configurationRepository).updateConfig(any(), any());
+    }
+
+    @Test
+    void shouldReloadWhenStoredVersionChanged() {
+        when(configurationRepository.getVersion()).thenReturn(1L);
+        var initialConfig = testee.getConfig();
+
+        testee.reloadIfChanged();
+        assertThat(testee.getConfig()).isSameAs(initialConfig);
+
+        when(configurationRepository.getVersion()).thenReturn(2L);
+        testee.reloadIfChanged();
+        assertThat(testee.getConfig()).isNotSameAs(initialConfig);
+        verify(configurationSource, times(2)).getConfig(any());
+    }
+
+    @Test
+    void shouldNotLoadConfigWhenCheckingForChangesBeforeFirstRead() {
+        testee.reloadIfChanged();
+
+        verify(configurationSource, times(0)).getConfig(any());
+    }
+
+    private static ApplicationConfigUpdateSpec createUpdateSpec() {
+        return new ApplicationConfigUpdateSpec(
+            new NotificationConfigUpdateSpec(null),
+            new EmailConfigUpdateSpec(null, null, null, null, "smtp.email.com", null, null, null, null, null),
+            new FrontendConfigUpdateSpec("Menu", null, null, null)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class EmailRateLimiterTest {
+
+    @Test
+    void shouldLimitToBatchSize() {
+        var testee = new EmailRateLimiter(20, 0, 0);
+        testee.record(Instant.now(), 1000);
+        assertThat(testee.available(Instant.now())).isEqualTo(20);
+    }
+
+    @Test
+    void shouldLimitPerMinute() {
+        var testee = new EmailRateLimiter(20, 30, 0);
+        var now = Instant.now();
+        testee.record(now.minus(Duration.ofSeconds(90)), 30);
+        testee.record(now.minus(Duration.ofSeconds(30)), 25);
+        assertThat(testee.available(now)).isEqualTo(5);
+        assertThat(testee.available(now.plus(Duration.ofSeconds(31)))).isEqualTo(20);
+    }
+
+    @Test
+    void shouldLimitPerHour() {
+        var testee = new EmailRateLimiter(20, 0, 100);
+        var now = Instant.now();
+        testee.record(now.minus(Duration.ofMinutes(50)), 90);
+        testee.record(now.minus(Duration.ofMinutes(10)), 10);
+        assertThat(testee.available(now)).isZero();
+        assertThat(testee.available(now.plus(Duration.ofMinutes(11)))).isEqualTo(20);
+    }
+}
@@ -3,7 +3,8 @@ package org.eventplanner.events.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eventplanner.testdata.UserFactory.createUser;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,8 +13,10 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.eventplanner.events.application.ports.EmailSender;
 import org.eventplanner.events.application.ports.QueuedEmailRepository;
@@ -30,9 +33,11 @@ import org.eventplanner.events.domain.values.notifications.NotificationType;
 import org.eventplanner.events.domain.values.users.UserKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.ui.freemarker.FreeMarkerConfigurationFactory;
 
 import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class EmailServiceTest {
 
@@ -40,6 +45,7 @@ class EmailServiceTest {
     private UserService userService;
     private ConfigurationService configurationService;
     private EmailSender emailSender;
+    private EmailRateLimiter emailRateLimiter;
 
     private EmailService testee;
 
@@ -52,12 +58,14 @@ class EmailServiceTest {
         userService = mock(UserService.class);
         emailSender = mock(EmailSender.class);
         queuedEmailRepository = mock(QueuedEmailRepository.class);
+        emailRateLimiter = new EmailRateLimiter(20, 30, 0);
         testee = new EmailService(
             configurationService,
             userService,
             queuedEmailRepository,
             emailSender,
-            freeMarkerConfig
+            new TemplateRegistry(freeMarkerConfig, new SimpleMeterRegistry()),
+            emailRateLimiter
         );
     }
 
@@ -85,51 +93,175 @@ class EmailServiceTest {
 
         testee.dispatch(notification);
 
-        verify(queuedEmailRepository, times(3)).queue(any());
+        var captor = ArgumentCaptor.<List<QueuedEmail>>captor();
+        verify(queuedEmailRepository, times(1)).queueAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        verify(queuedEmailRepository, never()).queue(any());
     }
 
     @Test
-    void shouldNotSendEmail() throws Exception {
-        when(queuedEmailRepository.next()).thenReturn(Optional.empty());
+    void shouldRenderSameEmailForEachRecipientOfGlobalNotification() throws Exception {
+        var notification = createGlobalNotification();
+        var withNickName = createUser().withNickName("Nick");
+        var withoutNickName = createUser().withNickName(null);
+        when(userService.getUsersByRole(notification.recipients())).thenReturn(List.of(withNickName, withoutNickName));
+
+        testee.dispatch(notification);
+
+        var captor = ArgumentCaptor.<List<QueuedEmail>>captor();
+        verify(queuedEmailRepository).queueAll(captor.capture());
+        assertThat(captor.getValue()).extracting(QueuedEmail::getBody).containsExactly(
+            testee.renderEmailContent(notification.toPersonalNotification(withNickName)),
+            testee.renderEmailContent(notification.toPersonalNotification(withoutNickName))
+        );
+        assertThat(captor.getValue().getFirst().getBody()).contains("Moin Nick,");
+    }
+
+    @Test
+    void shouldNotSendEmail() {
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of());
         when(configurationService.getConfig()).thenReturn(createSettings());
 
-        testee.sendNextEmail();
+        testee.sendNextEmails();
 
-        verify(emailSender, never()).sendEmail(any(), any());
+        verify(emailSender, never()).sendEmails(any(), any());
     }
 
     @Test
-    void shouldSendEmail() throws Exception {
-        when(queuedEmailRepository.next()).thenReturn(Optional.of(createQueuedEmail()));
+    void shouldSendEmail() {
+        var email = createQueuedEmail();
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(email));
         when(configurationService.getConfig()).thenReturn(createSettings());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of());
 
-        testee.sendNextEmail();
+        testee.sendNextEmails();
 
-        verify(emailSender, times(1)).sendEmail(any(), any());
+        verify(emailSender, times(1)).sendEmails(any(), any());
+        verify(queuedEmailRepository, times(1)).ack(email.getKey(), "lease");
     }
 
     @Test
-    void shouldQueueForRetry() throws Exception {
-        when(queuedEmailRepository.next()).thenReturn(Optional.of(createQueuedEmail()));
+    void shouldQueueForRetry() {
+        var email = createQueuedEmail();
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(email));
         when(configurationService.getConfig()).thenReturn(createSettings());
-        doThrow(Exception.class).when(emailSender).sendEmail(any(), any());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of(email.getKey(), new Exception()));
 
-        testee.sendNextEmail();
+        testee.sendNextEmails();
 
-        verify(queuedEmailRepository, times(1)).queue(any());
+        verify(queuedEmailRepository, times(1)).nack(eq(email.getKey()), eq("lease"), any());
+        verify(queuedEmailRepository, never()).ack(any(), any());
+        verify(queuedEmailRepository, never()).queue(any());
     }
 
     @Test
-    void shouldNotQueueForRetryWhenMaxRetriesExceeded() throws Exception {
-        when(queuedEmailRepository.next()).thenReturn(Optional.of(createQueuedEmail().withRetries(10)));
+    void shouldNotQueueForRetryWhenMaxRetriesExceeded() {
+        var email = createQueuedEmail().withRetries(10);
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(email));
         when(configurationService.getConfig()).thenReturn(createSettings());
-        doThrow(Exception.class).when(emailSender).sendEmail(any(), any());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of(email.getKey(), new Exception()));
 
-        testee.sendNextEmail();
+        testee.sendNextEmails();
 
+        verify(queuedEmailRepository, never()).nack(any(), any(), any());
+        verify(queuedEmailRepository, times(1)).deadLetter(eq(email.getKey()), eq("lease"), any());
+        verify(queuedEmailRepository, never()).ack(any(), any());
+    }
+
+    @Test
+    void shouldBackOffExponentiallyWithJitter() {
+        assertThat(EmailService.getRetryDelay(0)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+        assertThat(EmailService.getRetryDelay(1)).isBetween(Duration.ofSeconds(30), Duration.ofMinutes(1));
+        assertThat(EmailService.getRetryDelay(5)).isBetween(Duration.ofMinutes(8), Duration.ofMinutes(16));
+        assertThat(EmailService.getRetryDelay(9)).isBetween(Duration.ofMinutes(30), Duration.ofHours(1));
+        assertThat(EmailService.getRetryDelay(100)).isBetween(Duration.ofMinutes(30), Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldSendEmailsInBatch() {
+        var emails = List.of(createQueuedEmail(), createQueuedEmail(), createQueuedEmail());
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(emails);
+        when(configurationService.getConfig()).thenReturn(createSettings());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of());
+
+        testee.sendNextEmails();
+
+        var captor = ArgumentCaptor.<List<QueuedEmail>>captor();
+        verify(emailSender, times(1)).sendEmails(captor.capture(), any());
+        assertThat(captor.getValue()).hasSize(3).allSatisfy(email ->
+            assertThat(email.getSubject()).isEqualTo("[TEST] Test")
+        );
+        verify(queuedEmailRepository, times(3)).ack(any(), any());
+        verify(queuedEmailRepository, never()).nack(any(), any(), any());
+    }
+
+    @Test
+    void shouldQueueFailedEmailsOfBatchForRetry() {
+        var sent = createQueuedEmail();
+        var failed = createQueuedEmail();
+        var exhausted = createQueuedEmail().withRetries(10);
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(sent, failed, exhausted));
+        when(configurationService.getConfig()).thenReturn(createSettings());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of(
+            failed.getKey(), new Exception(),
+            exhausted.getKey(), new Exception()
+        ));
+
+        testee.sendNextEmails();
+
+        verify(queuedEmailRepository, times(1)).nack(eq(failed.getKey()), any(), any());
+        verify(queuedEmailRepository, never()).nack(eq(sent.getKey()), any(), any());
+        verify(queuedEmailRepository, never()).nack(eq(exhausted.getKey()), any(), any());
+        verify(queuedEmailRepository).ack(sent.getKey(), "lease");
+        verify(queuedEmailRepository).deadLetter(eq(exhausted.getKey()), any(), any());
         verify(queuedEmailRepository, never()).queue(any());
     }
 
+    @Test
+    void shouldSkipEmailsOfBatchToRecipientsNotWhitelisted() {
+        var notWhitelisted = createQueuedEmail();
+        var whitelisted = createQueuedEmail().withTo("whitelisted@email.com");
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(notWhitelisted, whitelisted));
+        when(configurationService.getConfig()).thenReturn(createSettings(true, List.of("whitelisted@email.com")));
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of());
+
+        testee.sendNextEmails();
+
+        var captor = ArgumentCaptor.<List<QueuedEmail>>captor();
+        verify(emailSender, times(1)).sendEmails(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(QueuedEmail::getKey).containsExactly(whitelisted.getKey());
+        // skipped emails are removed from the queue without sending them
+        verify(queuedEmailRepository).ack(notWhitelisted.getKey(), "lease");
+        verify(queuedEmailRepository).ack(whitelisted.getKey(), "lease");
+    }
+
+    @Test
+    void shouldRemoveEmailsFromQueueWhenEmailsAreDisabled() {
+        var email = createQueuedEmail();
+        when(queuedEmailRepository.claim(eq(20), any())).thenReturn(List.of(email));
+        when(configurationService.getConfig()).thenReturn(createSettings(false, null));
+
+        testee.sendNextEmails();
+
+        verify(emailSender, never()).sendEmails(any(), any());
+        verify(queuedEmailRepository).ack(email.getKey(), "lease");
+    }
+
+    @Test
+    void shouldNotTakeMoreEmailsThanRateLimitAllows() {
+        emailRateLimiter.record(Instant.now(), 25);
+        when(queuedEmailRepository.claim(eq(5), any())).thenReturn(List.of(createQueuedEmail()));
+        when(configurationService.getConfig()).thenReturn(createSettings());
+        when(emailSender.sendEmails(any(), any())).thenReturn(Map.of());
+
+        testee.sendNextEmails();
+        verify(queuedEmailRepository, times(1)).claim(eq(5), any());
+
+        emailRateLimiter.record(Instant.now(), 5);
+        testee.sendNextEmails();
+        verify(queuedEmailRepository, times(1)).claim(anyInt(), any());
+    }
+
     private QueuedEmail createQueuedEmail() {
         return new QueuedEmail(
             NotificationType.ADDED_TO_CREW,
@@ -137,15 +269,19 @@ class EmailServiceTest {
             new UserKey(),
             "Test",
             "Test"
-        );
+        ).withLeaseToken("lease");
     }
 
     private ApplicationConfig createSettings() {
+        return createSettings(true, null);
+    }
+
+    private ApplicationConfig createSettings(boolean enabled, List<String> recipientsWhitelist) {
         return new ApplicationConfig(
             new NotificationConfig(),
             new EmailConfig(
-                true,
-                null,
+                enabled,
+                recipientsWhitelist,
                 "[TEST] ",
                 "from@email.com",
                 "from",
@@ -8,11 +8,14 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import org.eventplanner.events.domain.entities.qualifications.Qualification;
 import org.eventplanner.events.domain.values.auth.Role;
@@ -190,6 +193,17 @@ class EncryptionServiceTest {
         assertThat(encryptedA.value()).isNotEqualTo(encryptedB.value());
     }
 
+    @Test
+    void shouldCreateDeterministicBlindIndex() {
+        var indexA = testee.blindIndex("someone@email.com");
+        var indexB = testee.blindIndex("someone@email.com");
+        assertThat(indexA).isNotNull().isEqualTo(indexB).doesNotContain("someone");
+        assertThat(testee.blindIndex("someone-else@email.com")).isNotEqualTo(indexA);
+        assertThat(new EncryptionService(defaultJsonMapper(), "other").blindIndex("someone@email.com"))
+            .isNotEqualTo(indexA);
+        assertThat(testee.blindIndex(null)).isNull();
+    }
+
     @Test
     void shouldEncryptAndDecryptCompleteUser() {
         var originalUser = createUser();
@@ -198,6 +212,43 @@ class EncryptionServiceTest {
         assertThat(decryptedUser).isEqualTo(originalUser);
     }
 
+    @Test
+    void shouldDecryptAllInOrder() {
+        var encrypted = Arrays.asList(testee.encrypt("a"), null, testee.encrypt("b"));
+        var decrypted = testee.decryptAll(encrypted);
+        assertThat(decrypted).containsExactly("a", null, "b");
+    }
+
+    @Test
+    void shouldDecryptCompleteUserInBulk() {
+        var originalUser = createUser();
+        var encryptedUser = originalUser.encrypt(testee::encrypt);
+        var decryptedUser = encryptedUser.decrypt(testee.decryptFunc());
+        assertThat(decryptedUser).isEqualTo(originalUser);
+    }
+
+    @Test
+    void shouldDecryptWithoutCipherPool() {
+        var unpooled = new EncryptionService(defaultJsonMapper(), "secret", 0);
+        var encrypted = testee.encrypt("Teststring");
+        assertThat(unpooled.decrypt(encrypted)).isEqualTo("Teststring");
+        assertThat(testee.decrypt(unpooled.encrypt("Teststring"))).isEqualTo("Teststring");
+    }
+
+    @Test
+    void shouldShareCipherPoolBetweenThreads() throws Exception {
+        var values = IntStream.range(0, 100).mapToObj(i -> "value " + i).toList();
+        var encrypted = values.stream().map(testee::encrypt).toList();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = IntStream.range(0, 50)
+                .mapToObj(_ -> executor.submit(() -> testee.decryptAll(encrypted)))
+                .toList();
+            for (var future : futures) {
+                assertThat(future.get()).isEqualTo(values);
+            }
+        }
+    }
+
     public record TestRecord(String string, Integer integer) implements Serializable {
     }
 }
@@ -0,0 +1,153 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformTransactionManager transactionManager;
+    private NotificationExecutor testee;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactionManager = mock();
+        testee = new NotificationExecutor(true, 1, 1, Duration.ofSeconds(5), meterRegistry, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        testee.shutdown();
+    }
+
+    @Test
+    void shouldDispatchOnVirtualThread() throws Exception {
+        var thread = new AtomicReference<Thread>();
+        var done = new CountDownLatch(1);
+
+        testee.submit(() -> {
+            thread.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(thread.get().isVirtual()).isTrue();
+    }
+
+    @Test
+    void shouldDispatchOnlyAfterCommit() throws Exception {
+        var done = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        testee.submit(done::countDown);
+
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldNotDispatchOnRollback() throws Exception {
+        var done = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        testee.submit(done::countDown);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    void shouldDispatchOnCallerWhenQueueIsFull() throws Exception {
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var threads = new AtomicReference<Thread>();
+
+        // occupy the single worker and the single queue slot
+        testee.submit(() -> {
+            started.countDown();
+            await(blocked);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        testee.submit(() -> {
+        });
+
+        testee.submit(() -> threads.set(Thread.currentThread()));
+        blocked.countDown();
+
+        assertThat(threads.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.counter("notifications.dispatch.overflows").count()).isEqualTo(1);
+        verify(transactionManager).getTransaction(
+            argThat(it -> it.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW)
+        );
+    }
+
+    @Test
+    void shouldDispatchRightAwayWhenNotAsync() {
+        var syncTestee = new NotificationExecutor(
+            false,
+            1,
+            1,
+            Duration.ofSeconds(5),
+            meterRegistry,
+            transactionManager
+        );
+        var thread = new AtomicReference<Thread>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        syncTestee.submit(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        syncTestee.shutdown();
+    }
+
+    @Test
+    void shouldDispatchPendingNotificationsOnShutdown() {
+        var dispatched = new CountDownLatch(1);
+        testee.submit(() -> sleep(50));
+        testee.submit(dispatched::countDown);
+
+        testee.shutdown();
+
+        assertThat(dispatched.getCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,14 +16,18 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eventplanner.events.domain.values.auth.AccessKey;
 import org.eventplanner.events.domain.values.auth.Role;
 import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,12 +35,14 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.ui.freemarker.FreeMarkerConfigurationFactory;
 
 import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class NotificationServiceTest {
 
     private AuthenticationService authenticationService;
     private ConfigurationService configurationService;
     private NotificationDispatcher dispatcher;
+    private NotificationExecutor notificationExecutor;
 
     private NotificationService testee;
 
@@ -53,14 +59,28 @@ class NotificationServiceTest {
         when(configurationService.isNotificationEnabled(any())).thenReturn(true);
         when(authenticationService.createAccessKey(any())).thenReturn(new AccessKey());
 
+        notificationExecutor = new NotificationExecutor(
+            true,
+            2,
+            100,
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry(),
+            mock()
+        );
         testee = new NotificationService(
-            freeMarkerConfig,
+            new TemplateRegistry(freeMarkerConfig, new SimpleMeterRegistry()),
             authenticationService,
             configurationService,
-            List.of(dispatcher)
+            List.of(dispatcher),
+            notificationExecutor
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        notificationExecutor.shutdown();
+    }
+
     @Test
     void shouldThrowExceptionOnMissingProps() {
         assertThrows(
@@ -105,7 +125,32 @@ class NotificationServiceTest {
                 testee.sendQualificationExpiredNotification(toUser, qualification, Collections.emptyMap());
         }
 
-        verify(dispatcher, timeout(100).times(1))
+        verify(dispatcher, timeout(1000).times(1))
             .dispatch(argThat(notification -> notification.type().equals(type)));
     }
+
+    @Test
+    void shouldRenderStateAtTheTimeOfTheTrigger() {
+        var blocked = new CountDownLatch(2);
+        var event = createEvent().withName("Original");
+        // occupy both workers, so that the notification is rendered after the event was changed
+        notificationExecutor.submit(() -> await(blocked));
+        notificationExecutor.submit(() -> await(blocked));
+
+        testee.sendAddedToCrewNotification(createUser(), event);
+        event.setName("Changed");
+        blocked.countDown();
+        blocked.countDown();
+
+        verify(dispatcher, timeout(1000).times(1))
+            .dispatch(argThat(notification -> notification.content().contains("Original")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
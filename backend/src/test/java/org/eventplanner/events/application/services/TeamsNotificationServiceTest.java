@@ -0,0 +1,210 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.beans.JsonMapperFactory.defaultJsonMapper;
+import static org.eventplanner.testdata.ApplicationConfigFactory.createApplicationConfig;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eventplanner.events.domain.aggregates.ApplicationConfig;
+import org.eventplanner.events.domain.entities.notifications.GlobalNotification;
+import org.eventplanner.events.domain.values.auth.Role;
+import org.eventplanner.events.domain.values.config.NotificationConfig;
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class TeamsNotificationServiceTest {
+
+    private WebhookStandIn webhook;
+    private SimpleMeterRegistry meterRegistry;
+    private ConfigurationService configurationService;
+    private TeamsNotificationService testee;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        webhook = new WebhookStandIn();
+        meterRegistry = new SimpleMeterRegistry();
+
+        var defaults = createApplicationConfig();
+        var config = new ApplicationConfig(
+            new NotificationConfig(webhook.getUri().toString(), List.of(NotificationType.values())),
+            defaults.email(),
+            defaults.frontend(),
+            defaults.auth()
+        );
+        configurationService = mock();
+        when(configurationService.getConfig()).thenReturn(config);
+
+        testee = new TeamsNotificationService(
+            configurationService,
+            defaultJsonMapper(),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(500),
+            2,
+            Duration.ZERO,
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        testee.close();
+        webhook.close();
+    }
+
+    @Test
+    void shouldPostAlertToWebhook() throws Exception {
+        var sent = testee.createTeamsAlert(webhook.getUri(), createNotification());
+
+        assertThat(sent.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhook.getRequests()).hasSize(1);
+        assertThat(webhook.getRequests().getFirst()).contains("summary").contains("AdaptiveCard");
+        assertThat(count("success")).isEqualTo(1);
+        assertThat(meterRegistry.timer("notifications.teams.latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBlockDispatchOnSlowWebhook() throws Exception {
+        webhook.setDelay(Duration.ofSeconds(2));
+
+        var start = System.nanoTime();
+        testee.dispatch(createNotification());
+        var dispatchDuration = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Dispatching to a slow webhook took {} ms", dispatchDuration.toMillis());
+
+        assertThat(dispatchDuration).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void shouldFailOnRequestTimeout() throws Exception {
+        webhook.setDelay(Duration.ofSeconds(2));
+
+        var sent = testee.createTeamsAlert(webhook.getUri(), createNotification());
+
+        assertThat(sent.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(count("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailOnErrorStatus() throws Exception {
+        webhook.setStatus(500);
+
+        var sent = testee.createTeamsAlert(webhook.getUri(), createNotification());
+
+        assertThat(sent.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(count("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropAlertsWhenTooManyArePending() throws Exception {
+        webhook.setDelay(Duration.ofMillis(300));
+
+        var first = testee.createTeamsAlert(webhook.getUri(), createNotification());
+        var second = testee.createTeamsAlert(webhook.getUri(), createNotification());
+        var third = testee.createTeamsAlert(webhook.getUri(), createNotification());
+
+        assertThat(third.getNow(true)).isFalse();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("dropped")).isEqualTo(1);
+
+        // pending alerts are released once the webhook answered
+        var fourth = testee.createTeamsAlert(webhook.getUri(), createNotification());
+        assertThat(fourth.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldCoalesceAlertsOfSameEventAndType() throws Exception {
+        var coalescing = createCoalescingTestee(Duration.ofMillis(200));
+
+        for (int i = 0; i < 5; i++) {
+            coalescing.dispatch(createNotification("summary " + i, NotificationType.CREW_REGISTRATION_ADDED));
+        }
+        coalescing.dispatch(createNotification("canceled", NotificationType.CREW_REGISTRATION_CANCELED));
+        assertThat(webhook.getRequests()).isEmpty();
+
+        await(() -> webhook.getRequests().size() == 2);
+        assertThat(webhook.getRequests())
+            .anySatisfy(body -> assertThat(body).contains("summary 0\\n\\n").contains("summary 4"))
+            .anySatisfy(body -> assertThat(body).contains("canceled").doesNotContain("summary"));
+        assertThat(meterRegistry.counter("notifications.teams.coalesced").count()).isEqualTo(4);
+        coalescing.close();
+    }
+
+    @Test
+    void shouldFlushCoalescedAlertsOnClose() {
+        var coalescing = createCoalescingTestee(Duration.ofMinutes(1));
+
+        coalescing.dispatch(createNotification("first", NotificationType.USER_DATA_CHANGED));
+        coalescing.dispatch(createNotification("second", NotificationType.USER_DATA_CHANGED));
+        coalescing.close();
+
+        assertThat(webhook.getRequests()).hasSize(1);
+        assertThat(webhook.getRequests().getFirst()).contains("first").contains("second");
+    }
+
+    @Test
+    void shouldEscapeSummariesOfDigest() throws Exception {
+        var coalescing = createCoalescingTestee(Duration.ofMinutes(1));
+
+        coalescing.dispatch(createNotification("\"quoted\" name", NotificationType.USER_DATA_CHANGED));
+        coalescing.dispatch(createNotification("back\\slash", NotificationType.USER_DATA_CHANGED));
+        coalescing.close();
+
+        assertThat(webhook.getRequests()).hasSize(1);
+        var text = defaultJsonMapper().readTree(webhook.getRequests().getFirst())
+            .at("/attachments/0/content/body/0/text")
+            .asText();
+        assertThat(text).isEqualTo("\"quoted\" name\n\nback\\slash");
+    }
+
+    private TeamsNotificationService createCoalescingTestee(Duration window) {
+        return new TeamsNotificationService(
+            configurationService,
+            defaultJsonMapper(),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(500),
+            2,
+            window,
+            meterRegistry
+        );
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("notifications.teams.alerts", "result", result).count();
+    }
+
+    private static GlobalNotification createNotification() {
+        return createNotification("summary", NotificationType.CREW_REGISTRATION_ADDED);
+    }
+
+    private static GlobalNotification createNotification(String summary, NotificationType type) {
+        return new GlobalNotification(
+            Role.TEAM_PLANNER,
+            type,
+            "title",
+            summary,
+            "content",
+            "http://localhost:8080/events/2026/details/1"
+        );
+    }
+}
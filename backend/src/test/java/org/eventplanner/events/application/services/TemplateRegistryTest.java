@@ -0,0 +1,75 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.io.File;
+import java.util.Map;
+
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ui.freemarker.FreeMarkerConfigurationFactory;
+
+import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TemplateRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TemplateRegistry testee;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var freeMarkerConfig = new FreeMarkerConfigurationFactory().createConfiguration();
+        freeMarkerConfig.setDirectoryForTemplateLoading(new File("src/main/resources/templates"));
+        meterRegistry = new SimpleMeterRegistry();
+        testee = new TemplateRegistry(freeMarkerConfig, meterRegistry);
+        testee.warmUp();
+    }
+
+    @Test
+    void shouldRenderSameOutputRepeatedly() throws Exception {
+        var model = Map.<String, Object>of("user", createUser(), "content", "TestContent", "title", "TestTitle");
+
+        var first = testee.render(TemplateRegistry.BASE_TEMPLATE, NotificationType.ADDED_TO_CREW, model);
+        var second = testee.render(TemplateRegistry.BASE_TEMPLATE, NotificationType.ADDED_TO_CREW, model);
+
+        assertThat(first).contains("TestContent").isEqualTo(second);
+    }
+
+    @Test
+    void shouldRecordRenderTimePerNotificationType() throws Exception {
+        var model = Map.<String, Object>of("user", createUser(), "content", "TestContent", "title", "TestTitle");
+
+        testee.render(TemplateRegistry.BASE_TEMPLATE, NotificationType.ADDED_TO_CREW, model);
+        testee.render(TemplateRegistry.BASE_TEMPLATE, NotificationType.ADDED_TO_CREW, model);
+        testee.render(TemplateRegistry.BASE_TEMPLATE, NotificationType.REMOVED_FROM_CREW, model);
+
+        var addedToCrew = meterRegistry.get("notifications.render")
+            .tag("type", NotificationType.ADDED_TO_CREW.toString())
+            .tag("template", "partials")
+            .timer();
+        var removedFromCrew = meterRegistry.get("notifications.render")
+            .tag("type", NotificationType.REMOVED_FROM_CREW.toString())
+            .timer();
+        assertThat(addedToCrew.count()).isEqualTo(2);
+        assertThat(removedFromCrew.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordFailedRenders() {
+        assertThatThrownBy(() -> testee.render(
+            TemplateRegistry.contentTemplate(NotificationType.ADDED_TO_WAITING_LIST),
+            NotificationType.ADDED_TO_WAITING_LIST,
+            Map.of()
+        )).isInstanceOf(TemplateException.class);
+
+        var timer = meterRegistry.get("notifications.render")
+            .tag("type", NotificationType.ADDED_TO_WAITING_LIST.toString())
+            .tag("template", "emails")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
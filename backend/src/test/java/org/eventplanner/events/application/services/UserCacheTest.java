@@ -0,0 +1,108 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.util.List;
+
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.values.auth.Role;
+import org.eventplanner.events.domain.values.users.AuthKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache testee;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        testee = new UserCache(2, meterRegistry);
+    }
+
+    @Test
+    void shouldCacheRebuiltUsers() {
+        var user = createUser();
+
+        testee.getOrRebuild(() -> List.of(user));
+        var result = testee.getSnapshot();
+
+        assertThat(result).containsOnlyKeys(user.getKey());
+        assertThat(meterRegistry.counter("users.cache.rebuilds").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("users.cache.misses").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("users.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheMoreUsersThanMaxSize() {
+        var users = List.of(createUser(), createUser(), createUser());
+
+        var result = testee.getOrRebuild(() -> users);
+
+        assertThat(result).hasSize(3);
+        assertThat(testee.getSnapshot()).isNull();
+    }
+
+    @Test
+    void shouldDiscardRebuildWhenWrittenConcurrently() {
+        var user = createUser();
+
+        var result = testee.getOrRebuild(() -> {
+            testee.put(user.withFirstName("Changed"));
+            return List.of(user);
+        });
+
+        assertThat(result).containsOnlyKeys(user.getKey());
+        assertThat(testee.getSnapshot()).isNull();
+    }
+
+    @Test
+    void shouldApplyWritesToSnapshot() {
+        var user = createUser();
+        var otherUser = createUser();
+        testee.getOrRebuild(() -> List.of(user, otherUser));
+
+        testee.put(user.withFirstName("Changed"));
+        testee.remove(otherUser.getKey());
+
+        assertThat(testee.getSnapshot()).containsOnlyKeys(user.getKey());
+        assertThat(testee.getSnapshot().get(user.getKey()).getFirstName()).isEqualTo("Changed");
+    }
+
+    @Test
+    void shouldIndexUsersByRole() {
+        var teamMember = createUser().withRoles(List.of(Role.TEAM_MEMBER));
+        var admin = createUser().withRoles(List.of(Role.TEAM_MEMBER, Role.ADMIN));
+        assertThat(testee.getUsersByRole(Role.ADMIN)).isNull();
+        testee.getOrRebuild(() -> List.of(teamMember, admin));
+
+        assertThat(testee.getUsersByRole(Role.ADMIN)).containsExactly(admin);
+        assertThat(testee.getUsersByRole(Role.TEAM_MEMBER)).containsExactlyInAnyOrder(teamMember, admin);
+        assertThat(testee.getUsersByRole(Role.TEAM_PLANNER)).isEmpty();
+
+        testee.put(teamMember.withRoles(List.of(Role.TEAM_MEMBER, Role.ADMIN)));
+
+        assertThat(testee.getUsersByRole(Role.ADMIN))
+            .extracting(UserDetails::getKey)
+            .containsExactlyInAnyOrder(teamMember.getKey(), admin.getKey());
+    }
+
+    @Test
+    void shouldIndexUsersByAuthKey() {
+        var user = createUser().withAuthKey(new AuthKey("auth"));
+        var userWithoutAuthKey = createUser().withAuthKey(null);
+        assertThat(testee.getUsersByAuthKey()).isNull();
+        testee.getOrRebuild(() -> List.of(user, userWithoutAuthKey));
+
+        assertThat(testee.getUsersByAuthKey()).containsOnlyKeys(new AuthKey("auth"));
+
+        testee.put(user.withAuthKey(new AuthKey("changed")));
+
+        assertThat(testee.getUsersByAuthKey()).containsOnlyKeys(new AuthKey("changed"));
+    }
+}
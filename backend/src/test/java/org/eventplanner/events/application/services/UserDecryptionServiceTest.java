@@ -0,0 +1,81 @@
+package org.eventplanner.events.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eventplanner.beans.JsonMapperFactory.defaultJsonMapper;
+import static org.eventplanner.testdata.UserFactory.createUser;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eventplanner.common.Encrypted;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDecryptionServiceTest {
+
+    private EncryptionService encryptionService;
+    private SimpleMeterRegistry meterRegistry;
+    private UserDecryptionService testee;
+
+    @BeforeEach
+    void setup() {
+        encryptionService = new EncryptionService(defaultJsonMapper(), "password");
+        meterRegistry = new SimpleMeterRegistry();
+        testee = new UserDecryptionService(encryptionService, meterRegistry, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testee.shutdown();
+    }
+
+    @Test
+    void shouldDecryptSingleBatch() {
+        var users = List.of(createUser(), createUser());
+
+        var result = testee.decryptAll(users.stream().map(u -> u.encrypt(encryptionService::encrypt)).toList());
+
+        assertThat(result).containsExactlyElementsOf(users);
+        assertThat(meterRegistry.timer("users.decryption").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepOrderWhenDecryptingMultipleBatches() {
+        var users = IntStream.range(0, 20)
+            .mapToObj(i -> createUser().withNickName("User " + i))
+            .toList();
+
+        var result = testee.decryptAll(users.stream().map(u -> u.encrypt(encryptionService::encrypt)).toList());
+
+        assertThat(result).extracting(UserDetails::getNickName)
+            .containsExactlyElementsOf(users.stream().map(UserDetails::getNickName).toList());
+    }
+
+    @Test
+    void shouldDecryptOnCallerAfterShutdown() {
+        var users = IntStream.range(0, 10)
+            .mapToObj(i -> createUser().withNickName("User " + i))
+            .toList();
+        testee.shutdown();
+
+        var result = testee.decryptAll(users.stream().map(u -> u.encrypt(encryptionService::encrypt)).toList());
+
+        assertThat(result).extracting(UserDetails::getNickName)
+            .containsExactlyElementsOf(users.stream().map(UserDetails::getNickName).toList());
+    }
+
+    @Test
+    void shouldPropagateDecryptionErrors() {
+        var users = IntStream.range(0, 10)
+            .mapToObj(_ -> createUser().encrypt(encryptionService::encrypt))
+            .toList();
+        users.get(7).setFirstName(new Encrypted<>("invalid"));
+
+        assertThatThrownBy(() -> testee.decryptAll(users)).isInstanceOf(RuntimeException.class);
+    }
+}
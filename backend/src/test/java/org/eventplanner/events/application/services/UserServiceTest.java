@@ -3,7 +3,12 @@ package org.eventplanner.events.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eventplanner.beans.JsonMapperFactory.defaultJsonMapper;
 import static org.eventplanner.testdata.UserFactory.createUser;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -12,20 +17,27 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.eventplanner.events.application.events.UserChangedEvent;
 import org.eventplanner.events.application.ports.QualificationRepository;
 import org.eventplanner.events.application.ports.UserRepository;
 import org.eventplanner.events.domain.entities.qualifications.Qualification;
+import org.eventplanner.events.domain.entities.users.UserDetails;
+import org.eventplanner.events.domain.values.auth.Role;
 import org.eventplanner.events.domain.values.qualifications.QualificationKey;
 import org.eventplanner.events.domain.values.users.AuthKey;
 import org.eventplanner.testdata.PositionKeys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class UserServiceTest {
 
     private QualificationRepository qualificationRepository;
     private UserRepository userRepository;
     private EncryptionService encryptionService;
+    private ApplicationEventPublisher eventPublisher;
     private UserService testee;
 
     @BeforeEach
@@ -38,11 +50,15 @@ class UserServiceTest {
         ));
         userRepository = mock();
         encryptionService = new EncryptionService(defaultJsonMapper(), "password");
+        eventPublisher = mock();
 
         testee = new UserService(
             userRepository,
             qualificationRepository,
-            encryptionService
+            encryptionService,
+            new UserCache(1000, new SimpleMeterRegistry()),
+            new UserDecryptionService(encryptionService, new SimpleMeterRegistry(), 2, 2),
+            eventPublisher
         );
     }
 
@@ -81,6 +97,38 @@ class UserServiceTest {
         assertThat(result).containsExactly(userA, userB, userC, userD);
     }
 
+    @Test
+    void shouldReturnUserListWithoutSensitiveFields() {
+        var userA = createUser().withNickName("User A").withDiseases("diseases").withPassNr("123");
+        var userB = createUser().withNickName("User B");
+        userB.addQualification(qualificationWithPosition());
+        when(userRepository.findAll()).thenReturn(Stream.of(userB, userA)
+            .map(u -> u.encrypt(encryptionService::encrypt))
+            .toList());
+
+        var result = testee.getUserList();
+
+        assertThat(result).extracting(UserDetails::getKey).containsExactly(userA.getKey(), userB.getKey());
+        assertThat(result.getFirst().getEmail()).isEqualTo(userA.getEmail());
+        assertThat(result.getFirst().getDiseases()).isNull();
+        assertThat(result.getFirst().getPassNr()).isNull();
+        assertThat(result.getLast().getPositions()).isEqualTo(userB.getPositions());
+        assertThat(result.getLast().getQualifications()).isEqualTo(userB.getQualifications());
+    }
+
+    @Test
+    void shouldNotCacheUsersDecryptedForList() {
+        var user = createUser();
+        when(userRepository.findAll()).thenReturn(List.of(user.encrypt(encryptionService::encrypt)));
+
+        testee.getUsers();
+        testee.getUserList();
+        var result = testee.getDetailedUsers();
+
+        assertThat(result).containsExactly(user);
+        verify(userRepository, times(3)).findAll();
+    }
+
     @Test
     void shouldReturnUserDetails() {
         var user = createUser();
@@ -95,22 +143,41 @@ class UserServiceTest {
 
     @Test
     void shouldFindUserByEmail() {
-        var userA = createUser().withNickName("User A");
-        var userB = createUser().withNickName("User B");
-        var userC = createUser().withNickName("User C").withEmail("someone@email.com");
-        var userD = createUser().withNickName("User D");
-        userA.addQualification(qualificationWithExpiration());
-        userB.addQualification(qualificationWithPosition());
-        userC.addQualification(qualificationWithExpiration());
-        userD.addQualification(qualificationWithExpiration(), Instant.now().plusSeconds(1000));
-        var mockFindAll = Stream.of(userC, userB, userA, userD)
-            .map(u -> u.encrypt(encryptionService::encrypt))
-            .toList();
-        when(userRepository.findAll()).thenReturn(mockFindAll);
+        var user = createUser().withEmail("someone@email.com");
+        user.addQualification(qualificationWithExpiration());
+        when(userRepository.findByEmailIndex(encryptionService.blindIndex("someone@email.com")))
+            .thenReturn(Optional.of(user.encrypt(encryptionService::encrypt)));
+
+        var result = testee.getUserByEmail(user.getEmail());
+
+        assertThat(result).isPresent().contains(user);
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldStoreEmailIndexOnUpdate() {
+        var user = createUser().withEmail("someone@email.com");
+        when(userRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        testee.updateUser(user);
+
+        verify(userRepository).update(argThat(encrypted ->
+            encryptionService.blindIndex("someone@email.com").equals(encrypted.getEmailIndex())));
+    }
+
+    @Test
+    void shouldCreateMissingEmailIndices() {
+        var userWithoutIndex = createUser().withEmail("someone@email.com").encrypt(encryptionService::encrypt);
+        var userWithoutEmail = createUser().withEmail(null).encrypt(encryptionService::encrypt);
+        when(userRepository.findAll()).thenReturn(List.of(userWithoutIndex, userWithoutEmail));
 
-        var result = testee.getUserByEmail(userC.getEmail());
+        testee.createMissingEmailIndices();
 
-        assertThat(result).isPresent().contains(userC);
+        verify(userRepository).update(argThat(encrypted ->
+            encrypted.getKey().equals(userWithoutIndex.getKey())
+                && encryptionService.blindIndex("someone@email.com").equals(encrypted.getEmailIndex())));
+        verify(userRepository, never()).update(argThat(encrypted ->
+            encrypted.getKey().equals(userWithoutEmail.getKey())));
     }
 
     @Test
@@ -126,6 +193,83 @@ class UserServiceTest {
         assertThat(result).isPresent().contains(user);
     }
 
+    @Test
+    void shouldServeUsersFromCacheAfterFirstRead() {
+        var user = createUser();
+        when(userRepository.findAll()).thenReturn(List.of(user.encrypt(encryptionService::encrypt)));
+
+        testee.getDetailedUsers();
+        var result = testee.getUserByKey(user.getKey());
+
+        assertThat(result).isPresent().contains(user);
+        verify(userRepository, times(1)).findAll();
+        verify(userRepository, never()).findByKey(any());
+    }
+
+    @Test
+    void shouldFindCachedUserByAuthKey() {
+        var authKey = new AuthKey("auth");
+        var user = createUser().withAuthKey(authKey);
+        when(userRepository.findAll()).thenReturn(List.of(user.encrypt(encryptionService::encrypt)));
+
+        testee.getDetailedUsers();
+        var result = testee.getUserByAuthKey(authKey);
+        var unknown = testee.getUserByAuthKey(new AuthKey("unknown"));
+
+        assertThat(result).isPresent().contains(user);
+        assertThat(unknown).isEmpty();
+        verify(userRepository, never()).findByAuthKey(any());
+    }
+
+    @Test
+    void shouldNotExposeCachedUsersToModifications() {
+        var user = createUser();
+        when(userRepository.findAll()).thenReturn(List.of(user.encrypt(encryptionService::encrypt)));
+
+        testee.getDetailedUsers().getFirst().setFirstName("Changed");
+        var result = testee.getDetailedUsers();
+
+        assertThat(result).containsExactly(user);
+    }
+
+    @Test
+    void shouldUpdateCacheOnWrite() {
+        var user = createUser();
+        var deletedUser = createUser();
+        when(userRepository.findAll()).thenReturn(List.of(
+            user.encrypt(encryptionService::encrypt),
+            deletedUser.encrypt(encryptionService::encrypt)
+        ));
+        when(userRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        testee.getDetailedUsers();
+
+        var updatedUser = user.withFirstName("Updated");
+        testee.updateUser(updatedUser);
+        testee.deleteUser(deletedUser.getKey());
+        var result = testee.getDetailedUsers();
+
+        assertThat(result).containsExactly(updatedUser);
+        verify(userRepository, times(1)).findAll();
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user.getKey()));
+        verify(eventPublisher).publishEvent(new UserChangedEvent(deletedUser.getKey()));
+    }
+
+    @Test
+    void shouldReturnUsersByRoleFromCache() {
+        var admin = createUser().withRoles(List.of(Role.ADMIN));
+        var teamMember = createUser().withRoles(List.of(Role.TEAM_MEMBER));
+        when(userRepository.findAll()).thenReturn(List.of(
+            admin.encrypt(encryptionService::encrypt),
+            teamMember.encrypt(encryptionService::encrypt)
+        ));
+
+        assertThat(testee.getUsersByRole(Role.ADMIN)).containsExactly(admin);
+        testee.getUsersByRole(Role.ADMIN).getFirst().setFirstName("Changed");
+        assertThat(testee.getUsersByRole(Role.ADMIN)).containsExactly(admin);
+        assertThat(testee.getUsersByRole(Role.TEAM_MEMBER)).containsExactly(teamMember);
+        verify(userRepository, times(1)).findAll();
+    }
+
     private static Qualification qualificationWithoutExpiration() {
         return new Qualification(
             new QualificationKey("non-expiring-qualification"),
@@ -105,7 +105,8 @@ class SecretRotationUseCaseTest {
             encryptionService.encrypt("none"),
             encryptionService.encrypt("none"),
             encryptionService.encrypt("none"),
-            encryptionService.encrypt(Diet.OMNIVORE)
+            encryptionService.encrypt(Diet.OMNIVORE),
+            encryptionService.blindIndex("tony.stark@email.com")
         );
     }
 }
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eventplanner.events.application.ports.EventRepository;
@@ -17,6 +18,7 @@ import org.eventplanner.events.application.services.EventService;
 import org.eventplanner.events.domain.entities.events.Event;
 import org.eventplanner.events.domain.entities.events.EventSlot;
 import org.eventplanner.events.domain.entities.events.Registration;
+import org.eventplanner.events.domain.values.auth.AccessKey;
 import org.eventplanner.events.domain.values.auth.Role;
 import org.eventplanner.events.domain.values.events.EventState;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,12 +30,13 @@ class EventUseCaseTest {
     private Event event;
     private EventUseCase testee;
     private AuthenticationService authenticationService;
+    private EventRepository eventRepository;
 
     @BeforeEach
     void setup() {
         event = createEvent();
         authenticationService = mock(AuthenticationService.class);
-        var eventRepository = mock(EventRepository.class);
+        eventRepository = mock(EventRepository.class);
         when(eventRepository.findAllByYear(YEAR)).thenReturn(List.of(event));
         when(eventRepository.findByKey(event.getKey())).thenReturn(Optional.of(event));
         when(eventRepository.create(any())).thenAnswer(mock -> mock.getArgument(0));
@@ -41,11 +44,43 @@ class EventUseCaseTest {
 
         testee = new EventUseCase(
             authenticationService,
-            new EventService(eventRepository),
+            new EventService(eventRepository, "secret"),
             eventRepository
         );
     }
 
+    @Test
+    void shouldChangeEventsTagWithRevision() {
+        when(authenticationService.getSignedInUser()).thenReturn(createSignedInUser(Role.TEAM_MEMBER));
+        when(eventRepository.findRevisionsByYear(YEAR)).thenReturn(Map.of(event.getKey(), 1L));
+        var tag = testee.getEventsTag(YEAR);
+
+        assertThat(testee.getEventsTag(YEAR)).isEqualTo(tag);
+        when(eventRepository.findRevisionsByYear(YEAR)).thenReturn(Map.of(event.getKey(), 2L));
+        assertThat(testee.getEventsTag(YEAR)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void shouldCreateDifferentEventTagsForDifferentUsers() {
+        when(eventRepository.findRevisionByKey(event.getKey())).thenReturn(Optional.of(1L));
+        when(authenticationService.getSignedInUser()).thenReturn(createSignedInUser(Role.TEAM_MEMBER));
+        var tag = testee.getEventTag(event.getKey());
+
+        when(authenticationService.getSignedInUser()).thenReturn(createSignedInUser(Role.TEAM_MEMBER));
+        assertThat(testee.getEventTag(event.getKey())).isPresent().isNotEqualTo(tag);
+    }
+
+    @Test
+    void shouldCreateDifferentEventTagsForAccessKeys() {
+        var signedInUser = createSignedInUser(Role.TEAM_MEMBER);
+        when(eventRepository.findRevisionByKey(event.getKey())).thenReturn(Optional.of(1L));
+        when(authenticationService.getSignedInUser()).thenReturn(signedInUser);
+        var tag = testee.getEventTag(event.getKey());
+
+        when(authenticationService.getSignedInUser()).thenReturn(signedInUser.withAuthentication(new AccessKey()));
+        assertThat(testee.getEventTag(event.getKey())).isPresent().isNotEqualTo(tag);
+    }
+
     @Test
     void shouldNotReturnDraftEventsForNonAdminUsers() {
         var signedInUser = createSignedInUser(Role.TEAM_MEMBER);
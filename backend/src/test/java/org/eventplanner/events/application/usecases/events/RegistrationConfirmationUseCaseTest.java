@@ -19,6 +19,8 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eventplanner.events.application.ports.EventRepository;
 import org.eventplanner.events.application.services.AuthenticationService;
@@ -72,7 +74,7 @@ class RegistrationConfirmationUseCaseTest {
         event.getSlots().getFirst().setAssignedRegistration(registration.getKey());
 
         var user = createUser().withKey(registration.getUserKey());
-        mockCurrentYearLookup(event);
+        mockEventLookup(event);
         when(userService.getUserByKey(registration.getUserKey())).thenReturn(Optional.of(user));
 
         testee.sendConfirmationRequests();
@@ -90,7 +92,7 @@ class RegistrationConfirmationUseCaseTest {
         event.getSlots().getFirst().setAssignedRegistration(registration.getKey());
 
         var user = createUser().withKey(registration.getUserKey());
-        mockCurrentYearLookup(event);
+        mockEventLookup(event);
         when(userService.getUserByKey(registration.getUserKey())).thenReturn(Optional.of(user));
 
         testee.sendConfirmationRequests();
@@ -102,9 +104,7 @@ class RegistrationConfirmationUseCaseTest {
 
     @Test
     void shouldNotSendAnyNotificationWhenNoEventsAreEligible() {
-        var currentYear = Instant.now().atZone(BERLIN_TIMEZONE).getYear();
-        when(eventRepository.findAllByYear(currentYear)).thenReturn(List.of());
-        when(eventRepository.findAllByYear(currentYear + 1)).thenReturn(List.of());
+        when(eventRepository.findStartingBetween(any(), any(), any())).thenReturn(List.of());
 
         testee.sendConfirmationRequests();
 
@@ -117,7 +117,7 @@ class RegistrationConfirmationUseCaseTest {
     void shouldNotSendAnyNotificationForEventsThatAreNotPlanned() {
         var event = createNotifiableEvent(0, 10);
         event.setState(EventState.DRAFT);
-        mockCurrentYearLookup(event);
+        mockEventLookup(event);
 
         testee.sendConfirmationRequests();
 
@@ -130,7 +130,7 @@ class RegistrationConfirmationUseCaseTest {
     void shouldNotSendAnyNotificationForEventsInThePast() {
         var event = createNotifiableEvent(0, 10);
         event.setStart(Instant.now().minusSeconds(60 * 60 * 24));
-        mockCurrentYearLookup(event);
+        mockEventLookup(event);
 
         testee.sendConfirmationRequests();
 
@@ -142,7 +142,7 @@ class RegistrationConfirmationUseCaseTest {
     @Test
     void shouldNotSendAnyNotificationForEventsOutsideTwoWeekWindow() {
         var event = createNotifiableEvent(0, 20);
-        mockCurrentYearLookup(event);
+        mockEventLookup(event);
 
         testee.sendConfirmationRequests();
 
@@ -326,10 +326,17 @@ class RegistrationConfirmationUseCaseTest {
         verify(eventRepository, never()).update(any());
     }
 
-    private void mockCurrentYearLookup(Event event) {
-        var currentYear = Instant.now().atZone(BERLIN_TIMEZONE).getYear();
-        when(eventRepository.findAllByYear(currentYear)).thenReturn(List.of(event));
-        when(eventRepository.findAllByYear(currentYear + 1)).thenReturn(List.of());
+    private void mockEventLookup(Event event) {
+        // behaves like the repository, so that the requested time range and states are verified
+        when(eventRepository.findStartingBetween(any(), any(), any())).thenAnswer(invocation -> {
+            Instant from = invocation.getArgument(0);
+            Instant to = invocation.getArgument(1);
+            Set<EventState> states = invocation.getArgument(2);
+            return Stream.of(event)
+                .filter(it -> states.contains(it.getState()))
+                .filter(it -> it.getStart().isAfter(from) && it.getStart().isBefore(to))
+                .toList();
+        });
     }
 
     private Event createNotifiableEvent(int alreadySentRequests, int daysUntilStart) {
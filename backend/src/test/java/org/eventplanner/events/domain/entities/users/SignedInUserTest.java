@@ -107,4 +107,22 @@ class SignedInUserTest {
         assertThat(testee.permissions())
             .hasSizeLessThan(Role.ADMIN.getPermissions().toList().size());
     }
+
+    @ParameterizedTest
+    @EnumSource(Role.class)
+    void shouldCheckPermissionsConsistentWithPermissionList(Role role) {
+        var testee = createSignedInUser(role);
+        for (var permission : Permission.values()) {
+            assertThat(testee.hasPermission(permission)).isEqualTo(testee.permissions().contains(permission));
+        }
+    }
+
+    @Test
+    void shouldNotLimitPermissionsOfSameRolesAuthenticatedOtherwise() {
+        var byAccessKey = createSignedInUser(Role.ADMIN).withAuthentication(new AccessKey("test-access-key"));
+        var byLogin = createSignedInUser(Role.ADMIN);
+
+        assertThat(byAccessKey.hasPermission(Permission.DELETE_USERS)).isFalse();
+        assertThat(byLogin.hasPermission(Permission.DELETE_USERS)).isTrue();
+    }
 }
@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.eventplanner.events.adapter.jpa.users.EncryptedUserDetailsJpaRepository;
+import org.eventplanner.events.application.services.UserCache;
 import org.eventplanner.testutil.TestUser;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +41,9 @@ class WebConfigIntegrationTest {
     @Autowired
     private EncryptedUserDetailsJpaRepository userJpaRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @BeforeEach
     void setup() {
         webMvc = MockMvcBuilders.webAppContextSetup(context)
@@ -134,6 +138,8 @@ class WebConfigIntegrationTest {
         var user = userJpaRepository.findByKey(TestUser.TEAM_MEMBER.getOidcId()).orElseThrow();
         user.setFirstName("should fail to decrypt");
         userJpaRepository.save(user);
+        // the user was changed bypassing the user service, so the cache has to be reset manually
+        userCache.clear();
 
         webMvc.perform(get("/api/v1/users")
                 .with(withAuthentication(TestUser.ADMIN))
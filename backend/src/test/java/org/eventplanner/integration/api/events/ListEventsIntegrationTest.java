@@ -4,6 +4,7 @@ import static org.eventplanner.testutil.TestUser.withAuthentication;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.json.JsonCompareMode;
@@ -105,4 +107,35 @@ class ListEventsIntegrationTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(content().json(expected, JsonCompareMode.STRICT));
     }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedEvents() throws Exception {
+        var eTag = webMvc.perform(get("/api/v1/events?year=2025")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        webMvc.perform(get("/api/v1/events?year=2025")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldNotShareEventTagsBetweenUsers() throws Exception {
+        var eTag = webMvc.perform(get("/api/v1/events?year=2025")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .accept(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        webMvc.perform(get("/api/v1/events?year=2025")
+                .with(withAuthentication(TestUser.EVENT_PLANNER))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+    }
 }
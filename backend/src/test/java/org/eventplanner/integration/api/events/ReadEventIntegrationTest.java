@@ -1,9 +1,12 @@
 package org.eventplanner.integration.api.events;
 
 import static org.eventplanner.testutil.TestUser.withAuthentication;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.eventplanner.events.application.services.AuthenticationService;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.json.JsonCompareMode;
@@ -95,4 +99,43 @@ class ReadEventIntegrationTest {
                 .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk());
     }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedEvent() throws Exception {
+        var eTag = webMvc.perform(get("/api/v1/events/7fa48570-963a-4e95-b72f-acaf70c70a24")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        webMvc.perform(get("/api/v1/events/7fa48570-963a-4e95-b72f-acaf70c70a24")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturnChangedEventAfterUpdate() throws Exception {
+        var eTag = webMvc.perform(get("/api/v1/events/7fa48570-963a-4e95-b72f-acaf70c70a24")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .accept(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        webMvc.perform(patch("/api/v1/events/7fa48570-963a-4e95-b72f-acaf70c70a24")
+                .with(withAuthentication(TestUser.ADMIN))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(TestResources.getString("/integration/api/events/update-event-request.json")))
+            .andExpect(status().isOk());
+
+        webMvc.perform(get("/api/v1/events/7fa48570-963a-4e95-b72f-acaf70c70a24")
+                .with(withAuthentication(TestUser.TEAM_MEMBER))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
 }
@@ -0,0 +1,80 @@
+package org.eventplanner.integration.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.eventplanner.events.adapter.jpa.events.EventJpaEntity;
+import org.eventplanner.events.adapter.jpa.events.EventJpaRepository;
+import org.eventplanner.events.application.ports.EventRepository;
+import org.eventplanner.events.domain.entities.events.Event;
+import org.eventplanner.events.domain.values.events.EventKey;
+import org.eventplanner.events.domain.values.events.EventState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks the start and end millis backfilled by the database migration and the query based on them against the
+ * start and end stored as ISO instants.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(profiles = { "test" })
+@Transactional // resets db changes after each test
+class EventStartMillisIntegrationTest {
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void shouldBackfillStartAndEndMillis() {
+        var events = eventJpaRepository.findAll();
+
+        assertThat(events).isNotEmpty().allSatisfy(event -> {
+            assertThat(event.getStartMillis()).isEqualTo(Instant.parse(event.getStart()).toEpochMilli());
+            assertThat(event.getEndMillis()).isEqualTo(Instant.parse(event.getEnd()).toEpochMilli());
+        });
+    }
+
+    @Test
+    void shouldFindEventsStartingBetween() {
+        var from = Instant.parse("2025-03-01T00:00:00Z");
+        var to = Instant.parse("2025-04-01T00:00:00Z");
+        var expected = eventJpaRepository.findAll().stream()
+            .filter(event -> Instant.parse(event.getStart()).isAfter(from))
+            .filter(event -> Instant.parse(event.getStart()).isBefore(to))
+            .map(EventJpaEntity::getKey)
+            .map(EventKey::new)
+            .toList();
+
+        var result = eventRepository.findStartingBetween(from, to, EnumSet.allOf(EventState.class));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(result).extracting(Event::getKey).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void shouldFindEventsStartingBetweenByState() {
+        var from = Instant.parse("2025-01-01T00:00:00Z");
+        var to = Instant.parse("2026-01-01T00:00:00Z");
+        var expected = eventJpaRepository.findAll().stream()
+            .filter(event -> Instant.parse(event.getStart()).isAfter(from))
+            .filter(event -> Instant.parse(event.getStart()).isBefore(to))
+            .filter(event -> event.getState().equals(EventState.PLANNED.value()))
+            .map(EventJpaEntity::getKey)
+            .map(EventKey::new)
+            .toList();
+
+        var result = eventRepository.findStartingBetween(from, to, Set.of(EventState.PLANNED));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(result).extracting(Event::getKey).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
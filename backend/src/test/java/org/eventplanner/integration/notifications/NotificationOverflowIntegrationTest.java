@@ -0,0 +1,112 @@
+package org.eventplanner.integration.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eventplanner.events.adapter.jpa.notifications.QueuedEmailJpaRepository;
+import org.eventplanner.events.application.scheduled.EmailScheduler;
+import org.eventplanner.events.application.services.NotificationExecutor;
+import org.eventplanner.events.application.services.NotificationService;
+import org.eventplanner.events.application.services.UserService;
+import org.eventplanner.events.domain.values.auth.Role;
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.eventplanner.testutil.TestUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dispatches notifications asynchronously within real transactions, so this test is not transactional. It uses a file
+ * database instead of the shared in-memory one, because the overflowing notification needs a second connection while
+ * the committed transaction still holds the first one.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(profiles = { "test" })
+class NotificationOverflowIntegrationTest {
+
+    @Autowired
+    private NotificationExecutor notificationExecutor;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private QueuedEmailJpaRepository queuedEmailJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // keep queued emails in the database
+    @MockitoBean
+    private EmailScheduler emailScheduler;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        var database = Files.createTempFile("notification-overflow", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database.toAbsolutePath());
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> 2);
+        registry.add("notifications.dispatch.async", () -> true);
+        registry.add("notifications.dispatch.max-concurrency", () -> 1);
+        registry.add("notifications.dispatch.queue-capacity", () -> 1);
+    }
+
+    @AfterEach
+    void cleanup() {
+        queuedEmailJpaRepository.deleteAll();
+    }
+
+    @Test
+    void shouldPersistEmailsOfNotificationDispatchedOnOverflow() throws Exception {
+        var who = userService.getUserByKey(new UserKey(TestUser.TEAM_MEMBER.getOidcId())).orElseThrow();
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+
+        // occupy the single worker and the single queue slot
+        notificationExecutor.submit(() -> {
+            started.countDown();
+            await(blocked);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        notificationExecutor.submit(() -> {
+        });
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(_ ->
+                notificationService.sendUserChangedPersonalDataNotification(Role.ADMIN, who)
+            );
+        } finally {
+            blocked.countDown();
+        }
+
+        assertThat(queuedEmailJpaRepository.findAll())
+            .anyMatch(it -> it.getType().equals(NotificationType.USER_DATA_CHANGED.toString())
+                && it.getUserKey().equals(TestUser.ADMIN.getOidcId()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
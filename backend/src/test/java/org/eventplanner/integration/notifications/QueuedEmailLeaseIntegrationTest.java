@@ -0,0 +1,67 @@
+package org.eventplanner.integration.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eventplanner.events.adapter.jpa.notifications.DeadLetterEmailJpaRepository;
+import org.eventplanner.events.adapter.jpa.notifications.QueuedEmailJpaRepository;
+import org.eventplanner.events.application.ports.QueuedEmailRepository;
+import org.eventplanner.events.domain.entities.notifications.QueuedEmail;
+import org.eventplanner.events.domain.values.notifications.NotificationType;
+import org.eventplanner.events.domain.values.users.UserKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(profiles = { "test" })
+@Transactional // resets db changes after each test
+class QueuedEmailLeaseIntegrationTest {
+
+    @Autowired
+    private QueuedEmailRepository queuedEmailRepository;
+
+    @Autowired
+    private QueuedEmailJpaRepository queuedEmailJpaRepository;
+
+    @Autowired
+    private DeadLetterEmailJpaRepository deadLetterEmailJpaRepository;
+
+    @Test
+    void shouldIgnoreSenderWhoseLeaseWasTakenOver() {
+        var email = new QueuedEmail(
+            NotificationType.ADDED_TO_CREW,
+            "someone@email.com",
+            new UserKey(),
+            "Test",
+            "Test"
+        );
+        queuedEmailRepository.queue(email);
+
+        // the lease of the first sender expires right away, so that a second sender can claim the email
+        var expired = claim(email, Duration.ZERO);
+        var current = claim(email, Duration.ofMinutes(5));
+        assertThat(current.getLeaseToken()).isNotEqualTo(expired.getLeaseToken());
+
+        assertThat(queuedEmailRepository.ack(email.getKey(), expired.getLeaseToken())).isFalse();
+        assertThat(queuedEmailRepository.nack(email.getKey(), expired.getLeaseToken(), Duration.ZERO)).isFalse();
+        assertThat(queuedEmailRepository.deadLetter(email.getKey(), expired.getLeaseToken(), "error")).isFalse();
+        assertThat(queuedEmailJpaRepository.existsById(email.getKey())).isTrue();
+        assertThat(deadLetterEmailJpaRepository.existsById(email.getKey())).isFalse();
+
+        assertThat(queuedEmailRepository.ack(email.getKey(), current.getLeaseToken())).isTrue();
+        assertThat(queuedEmailJpaRepository.existsById(email.getKey())).isFalse();
+    }
+
+    private QueuedEmail claim(QueuedEmail email, Duration leaseDuration) {
+        var claimed = queuedEmailRepository.claim(100, leaseDuration).stream()
+            .filter(it -> it.getKey().equals(email.getKey()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(claimed.getLeaseToken()).isNotNull();
+        return claimed;
+    }
+}
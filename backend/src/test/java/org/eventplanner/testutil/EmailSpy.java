@@ -3,9 +3,13 @@ package org.eventplanner.testutil;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eventplanner.events.adapter.jpa.notifications.QueuedEmailJpaRepository;
 import org.eventplanner.events.adapter.mail.JavaEmailAdapter;
 import org.eventplanner.events.application.scheduled.EmailScheduler;
@@ -52,6 +56,15 @@ public class EmailSpy {
     }
 
     public void verifyEmailSent(VerificationMode mode, ArgumentMatcher<QueuedEmail> email) throws Exception {
+        // the scheduler sends emails in batches, record each email of a batch as a single sent email
+        doAnswer(invocation -> {
+            List<QueuedEmail> emails = invocation.getArgument(0);
+            for (var it : emails) {
+                javaEmailAdapter.sendEmail(it, invocation.getArgument(1));
+            }
+            return Map.of();
+        }).when(javaEmailAdapter).sendEmails(any(), any());
+
         // send all queued notifications
         while (queuedEmailJpaRepository.count() > 0) {
             emailScheduler.sendNotification();
@@ -0,0 +1,4 @@
+-- test events are inserted after the start and end millis were introduced, so they have to be set here
+UPDATE events
+SET start_millis = COALESCE(CAST(ROUND((julianday(start) - 2440587.5) * 86400000) AS INTEGER), 0),
+    end_millis   = COALESCE(CAST(ROUND((julianday(end) - 2440587.5) * 86400000) AS INTEGER), 0);